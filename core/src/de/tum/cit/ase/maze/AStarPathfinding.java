@@ -1,101 +1,80 @@
 package de.tum.cit.ase.maze;
 
-import java.awt.*;
-import java.util.*;
-import java.util.List;
-import java.util.ArrayList;
+import com.badlogic.gdx.utils.LongArray;
 
 /**
  * Implements the A* pathfinding algorithm to find the shortest path between two points our a game map.
  * A* is a best-first search algorithm that finds the least-cost path from a given initial node to one goal node
  * (out of one or more possible goals). It uses a combination of the actual cost from the start node to a given node
  * and the estimated cost from that given node to the goal to determine the order in which nodes are explored.
+ * <p>
+ * The search works on primitive arrays only: the costs, parents and closed flags of the tiles are kept in {@code int}
+ * arrays indexed by {@code y * width + x}, and the open set is an {@link IndexedMinHeap} of the same indices, so a
+ * tile is in it at most once and a cheaper path to it lowers its key in place. Tiles with the same fCost are expanded
+ * closest to the goal first. The arrays belong to a {@link GridSearch} that every thread reuses for all of its
+ * searches, so after the arrays have grown to the size of the map a search allocates nothing.
  */
 public class AStarPathfinding {
+    private static final ThreadLocal<SearchContext> CONTEXTS = ThreadLocal.withInitial(SearchContext::new);
 
     /**
-     * Finds the shortest path between two points on the game map using the A* pathfinding algorithm.
+     * Finds the shortest path between two tiles using the A* pathfinding algorithm. On large maps the search
+     * starts in a window around the start and the end that grows until it is sure to hold the shortest path; beyond
+     * {@link GridSearch#MAX_WINDOW_TILES} tiles {@link HierarchicalPathfinding} is used instead, see {@link GridSearch}.
      *
-     * @param gameMap The game map on which the pathfinding is to be performed.
-     * @param start   The starting point of the path.
-     * @param end     The end point of the path.
-     * @return A list of {@link Point} objects representing the shortest path from the start to the end point,
-     *         including both start and end points. Returns an empty list if no path is found.
+     * @param world  The world on which the pathfinding is to be performed.
+     * @param startX The x-coordinate of the start tile.
+     * @param startY The y-coordinate of the start tile.
+     * @param endX   The x-coordinate of the end tile.
+     * @param endY   The y-coordinate of the end tile.
+     * @param path   Cleared and filled with the tiles of the path as {@code (long) y * world.getWidth() + x}, from the
+     *               start to the end tile, both included. Stays empty if no path is found.
+     * @return {@code true} if a path was found.
      */
-    public static List<Point> findPath(GameMap gameMap, Point start, Point end) {
-        PriorityQueue<Node> openSet = new PriorityQueue<>();
-        Map<Point, Node> allNodes = new HashMap<>();
-
-        //starts with initial node, add to open set and map
-        Node startNode = new Node(start, null, 0, manhattanDistance(start, end));
-        openSet.add(startNode);
-        allNodes.put(start, startNode);
-
-        //loop that processes nodes from the open set until this set is empty (or the target is found)
-        while (!openSet.isEmpty()) {
-            Node currentNode = openSet.poll();
-
-            //if we reached the end, reconstruct the path
-            if (currentNode.position.equals(end)) {
-                return reconstructPath(currentNode);
-            }
-
-            //check each neighbor
-            for (Point neighborPos : gameMap.getNeighbors(currentNode.position)) {
-                if (!gameMap.isCellfree(neighborPos.x, neighborPos.y)) {
-                    continue; //skip blocked cells
-                }
-
-                int tentativeGCost = currentNode.gCost + 1; //cost of 1 for each step
-                Node neighborNode = allNodes.getOrDefault(neighborPos, new Node(neighborPos, null, Integer.MAX_VALUE, manhattanDistance(neighborPos, end)));
-
-                //checks if moving to that neighbor is a better path than any previously found
-                //if so, it updates that neighbor's gCost, recalculates its fCost, sets the current node as its parent (for path reconstruction later)
-                //and adds the neighbor to the open set if it's not already there
-                if (tentativeGCost < neighborNode.gCost) {
-                    neighborNode.parent = currentNode;
-                    neighborNode.gCost = tentativeGCost;
-                    neighborNode.fCost = tentativeGCost + neighborNode.hCost;
-
-                    if (!openSet.contains(neighborNode)) {
-                        openSet.add(neighborNode);
-                        allNodes.put(neighborPos, neighborNode);
-                    }
-                }
-            }
-        }
-        return Collections.emptyList(); //no path found
+    public static boolean findPath(MazeWorld world, int startX, int startY, int endX, int endY, LongArray path) {
+        return CONTEXTS.get().search(world, startX, startY, endX, endY, path);
     }
 
     /**
-     * Reconstructs the path from the end node to the start node by backtracking through the parent nodes.
+     * Finds the shortest path between two tiles that only leads over the tiles of a rectangular area, e.g. within one
+     * cluster of {@link ClusterGraph}.
      *
-     * @param endNode The end node from which to start the path reconstruction.
-     * @return A list of {@link Point} objects representing the path from the start node to the end node.
+     * @param world  The world on which the pathfinding is to be performed.
+     * @param startX The x-coordinate of the start tile, inside the area.
+     * @param startY The y-coordinate of the start tile, inside the area.
+     * @param endX   The x-coordinate of the end tile, inside the area.
+     * @param endY   The y-coordinate of the end tile, inside the area.
+     * @param areaX  The x-coordinate of the lower left tile of the area.
+     * @param areaY  The y-coordinate of the lower left tile of the area.
+     * @param width  The width of the area.
+     * @param height The height of the area, at most {@link GridSearch#MAX_WINDOW_TILES} tiles in total.
+     * @param path   Cleared and filled with the tiles of the path as {@code (long) y * world.getWidth() + x}, from the
+     *               start to the end tile, both included. Stays empty if no path is found.
+     * @return {@code true} if a path was found.
      */
-
-    private static List<Point> reconstructPath(Node endNode) {
-        List<Point> path = new ArrayList<>();
-        Node currentNode = endNode;
-        while (currentNode != null) {
-            path.add(0, currentNode.position); // Add to the front
-            //reconstruct path by following the parent references from the target node back to the start node
-            currentNode = currentNode.parent;
-        }
-        return path;
+    static boolean findPathInArea(MazeWorld world, int startX, int startY, int endX, int endY,
+                                  int areaX, int areaY, int width, int height, LongArray path) {
+        return CONTEXTS.get().search(world, startX, startY, endX, endY, areaX, areaY, width, height, path);
     }
 
     /**
-     * Calculates the Manhattan distance between two points. The Manhattan distance is the sum of the absolute
-     * differences of their Cartesian coordinates. It is used as a heuristic in the A* pathfinding algorithm.
-     *
-     * @param a The first point.
-     * @param b The second point.
-     * @return The Manhattan distance between the two points.
+     * Expands the four neighbors of every tile, each one step further.
      */
-    private static int manhattanDistance(Point a, Point b) {
-        return Math.abs(a.x - b.x) + Math.abs(a.y - b.y);
-    }
+    private static class SearchContext extends GridSearch {
+        @Override
+        protected void expand(int current, int x, int y) {
+            //check each neighbor: left, right, down, up
+            int tentativeGCost = getGCost(current) + 1; //cost of 1 for each step
+            visit(current, x - 1, y, tentativeGCost);
+            visit(current, x + 1, y, tentativeGCost);
+            visit(current, x, y - 1, tentativeGCost);
+            visit(current, x, y + 1, tentativeGCost);
+        }
 
+        private void visit(int current, int x, int y, int tentativeGCost) {
+            if (isFree(x, y)) { //skip blocked cells
+                open(current, x, y, tentativeGCost);
+            }
+        }
+    }
 }
-
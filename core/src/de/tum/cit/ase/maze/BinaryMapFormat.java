@@ -0,0 +1,244 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads and writes the compact binary maze format ({@code .maze}).
+ * A file starts with a 16 byte header (magic number, format version, width, height; all big-endian ints). Version 2
+ * continues with the number of entries, exits, traps, enemy spawns and keys (one int each) and then their row-major
+ * positions ({@code (long) y * width + x}, one long each, in that order), so a map that is too large to load can be
+ * set up without scanning its tiles. Version 1 files have no such list. Then follows one byte per tile in row-major
+ * order, using the same tile types as the .properties format and {@link MapData#EMPTY} for plain path cells. Bytes
+ * that are no tile type of a level file are read as {@link MapData#EMPTY}, just like the .properties parser skips
+ * entries with an unknown tile type. Files on disk are read through a memory-mapped {@link FileChannel}, so even
+ * very large mazes are loaded with a single bulk copy instead of parsing text.
+ */
+public class BinaryMapFormat {
+    public static final String EXTENSION = ".maze";
+    private static final int MAGIC = 0x4D415A45; // "MAZE"
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 16;
+    // tile types whose positions are listed after the header of version 2
+    private static final byte[] LISTED_TYPES = {MapData.ENTRY, MapData.EXIT, MapData.TRAP, MapData.ENEMY, MapData.KEY};
+
+    private BinaryMapFormat() {
+    }
+
+    /**
+     * The checked header of a binary maze.
+     *
+     * @param width      The width of the maze.
+     * @param height     The height of the maze.
+     * @param counts     The number of listed positions of each of the {@link #LISTED_TYPES}, {@code null} for
+     *                   version 1.
+     * @param tileOffset The offset of the first tile byte from the start of the header.
+     */
+    private record Header(int width, int height, int[] counts, long tileOffset) {
+        long tileCount() {
+            return (long) width * height;
+        }
+    }
+
+    /**
+     * Reads a binary maze file. Files that exist on the local file system are memory-mapped,
+     * everything else (e.g. classpath resources inside a jar) is read into a heap buffer first.
+     *
+     * @param fileHandle The file handle of the {@code .maze} file.
+     * @return The parsed {@link MapData}.
+     * @throws IOException If the file cannot be read, is not a valid maze file or has too many tiles for a
+     *                     {@link MapData}.
+     */
+    public static MapData read(FileHandle fileHandle) throws IOException {
+        if (fileHandle.type() != Files.FileType.Classpath && fileHandle.file().exists()) {
+            try (FileChannel channel = FileChannel.open(fileHandle.file().toPath(), StandardOpenOption.READ)) {
+                if (channel.size() > Integer.MAX_VALUE) {
+                    throw new IOException("Maze too large to load, open it with openTileSource: " + fileHandle);
+                }
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                return read(buffer);
+            }
+        }
+        return read(ByteBuffer.wrap(fileHandle.readBytes()));
+    }
+
+    /**
+     * Reads a binary maze from the given buffer, starting at its current position.
+     *
+     * @param buffer The buffer holding the header and the tile bytes.
+     * @return The parsed {@link MapData}.
+     * @throws IOException If the header is invalid or the buffer is too short.
+     */
+    public static MapData read(ByteBuffer buffer) throws IOException {
+        int start = buffer.position();
+        Header header = readHeader(buffer, buffer.remaining());
+        if (header.tileCount() > Integer.MAX_VALUE) {
+            throw new IOException("Maze too large to load: " + header.width() + "x" + header.height());
+        }
+        buffer.position(start + (int) header.tileOffset()); // MapData finds the special tiles itself
+        byte[] tiles = new byte[(int) header.tileCount()];
+        buffer.get(tiles); // bulk copy
+        for (int i = 0; i < tiles.length; i++) {
+            if (!MapData.isLevelType(tiles[i])) {
+                tiles[i] = MapData.EMPTY; // unknown tile types are ignored, as in .properties files
+            }
+        }
+        return new MapData(header.width(), header.height(), tiles);
+    }
+
+    /**
+     * Opens a binary maze file on the local file system as a {@link TileSource} that reads the tiles straight from
+     * the memory-mapped file. Unlike {@link #read(FileHandle)} nothing is copied to the heap except the list of special
+     * tiles, and the number of tiles is not limited by the size of an array, so this is how maps that are too large to
+     * load are given to a {@link MazeWorld}, which pages them in regions.
+     *
+     * @param file The {@code .maze} file.
+     * @return The tile source of the file.
+     * @throws IOException If the file cannot be read or is not a valid maze file.
+     */
+    public static MappedTileSource openTileSource(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            // the header up to the end of the counts of version 2
+            ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_SIZE + 4 * LISTED_TYPES.length);
+            while (headerBuffer.hasRemaining() && channel.read(headerBuffer) >= 0) {
+                // read until the header is complete or the file ends
+            }
+            headerBuffer.flip();
+            Header header = readHeader(headerBuffer, channel.size());
+            long[][] positions = null;
+            if (header.counts() != null) {
+                long listOffset = HEADER_SIZE + 4 * LISTED_TYPES.length;
+                long listBytes = header.tileOffset() - listOffset;
+                positions = readPositions(channel.map(FileChannel.MapMode.READ_ONLY, listOffset, listBytes), header);
+            }
+            // the mappings stay valid after the channel is closed
+            long tileCount = header.tileCount();
+            MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((tileCount + MappedTileSource.SEGMENT_SIZE - 1)
+                    / MappedTileSource.SEGMENT_SIZE)];
+            for (int i = 0; i < segments.length; i++) {
+                long segmentStart = i * MappedTileSource.SEGMENT_SIZE;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, header.tileOffset() + segmentStart,
+                        Math.min(MappedTileSource.SEGMENT_SIZE, tileCount - segmentStart));
+            }
+            return new MappedTileSource(header.width(), header.height(), segments, positions);
+        }
+    }
+
+    /**
+     * Reads and checks the header of a binary maze, including the counts of the listed positions of version 2.
+     *
+     * @param buffer    The buffer, positioned at the start of the header.
+     * @param fileBytes The number of bytes from the start of the header to the end of the file.
+     * @return The header.
+     * @throws IOException If the header is invalid or there are fewer bytes than tiles.
+     */
+    private static Header readHeader(ByteBuffer buffer, long fileBytes) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a binary maze file");
+        }
+        int version = buffer.getInt();
+        if (version != 1 && version != VERSION) {
+            throw new IOException("Unsupported maze file version: " + version);
+        }
+        int width = buffer.getInt();
+        int height = buffer.getInt();
+        int[] counts = null;
+        long tileOffset = HEADER_SIZE;
+        if (version == VERSION) {
+            if (buffer.remaining() < 4 * LISTED_TYPES.length) {
+                throw new IOException("Truncated maze file header");
+            }
+            counts = new int[LISTED_TYPES.length];
+            tileOffset += 4 * LISTED_TYPES.length;
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buffer.getInt();
+                if (counts[i] < 0) {
+                    throw new IOException("Invalid number of listed tiles: " + counts[i]);
+                }
+                tileOffset += 8L * counts[i];
+            }
+        }
+        if (width <= 0 || height <= 0 || fileBytes - tileOffset < (long) width * height) {
+            throw new IOException("Invalid maze size " + width + "x" + height);
+        }
+        return new Header(width, height, counts, tileOffset);
+    }
+
+    /**
+     * Reads the listed positions of version 2, grouped by tile type.
+     *
+     * @param list   The buffer holding the positions, one long each.
+     * @param header The header of the file.
+     * @return The positions, indexed by tile type.
+     * @throws IOException If a position lies outside of the maze.
+     */
+    private static long[][] readPositions(ByteBuffer list, Header header) throws IOException {
+        long[][] positions = new long[MapData.KEY + 1][];
+        positions[MapData.WALL] = new long[0];
+        for (int i = 0; i < LISTED_TYPES.length; i++) {
+            long[] typePositions = new long[header.counts()[i]];
+            list.asLongBuffer().get(typePositions);
+            list.position(list.position() + 8 * typePositions.length);
+            for (long position : typePositions) {
+                if (position < 0 || position >= header.tileCount()) {
+                    throw new IOException("Listed tile outside of the maze: " + position);
+                }
+            }
+            positions[LISTED_TYPES[i]] = typePositions;
+        }
+        return positions;
+    }
+
+    /**
+     * Writes the given map in the binary maze format, with the positions of its special tiles and enemy spawns.
+     *
+     * @param mapData The map to write.
+     * @param file    The target file, it is created or overwritten.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(MapData mapData, File file) throws IOException {
+        int listed = 0;
+        for (byte tileType : LISTED_TYPES) {
+            listed += mapData.getPositions(tileType).length;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + 4 * LISTED_TYPES.length + 8 * listed);
+        header.putInt(MAGIC).putInt(VERSION).putInt(mapData.getWidth()).putInt(mapData.getHeight());
+        for (byte tileType : LISTED_TYPES) {
+            header.putInt(mapData.getPositions(tileType).length);
+        }
+        for (byte tileType : LISTED_TYPES) {
+            for (long position : mapData.getPositions(tileType)) {
+                header.putLong(position);
+            }
+        }
+        header.flip();
+        ByteBuffer tiles = ByteBuffer.wrap(mapData.getTiles());
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) channel.write(header);
+            while (tiles.hasRemaining()) channel.write(tiles);
+        }
+    }
+
+    /**
+     * Returns the handle of the binary file that belongs to a level file, e.g. {@code maps/level-1.maze}
+     * for {@code maps/level-1.properties}. The returned file does not have to exist.
+     *
+     * @param levelFile The handle of a level file.
+     * @return The handle of the matching {@code .maze} file.
+     */
+    public static FileHandle binarySibling(FileHandle levelFile) {
+        if (levelFile.name().endsWith(EXTENSION)) {
+            return levelFile;
+        }
+        return levelFile.sibling(levelFile.nameWithoutExtension() + EXTENSION);
+    }
+}
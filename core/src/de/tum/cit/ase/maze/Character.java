@@ -1,34 +1,22 @@
 package de.tum.cit.ase.maze;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
-import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.utils.Array;
 
-import java.awt.*;
-
+/**
+ * Draws the {@link Player} of a {@link MazeSimulation} with the walking and standing animations of the character
+ * sprite sheet. All game state (position, lives, key) lives in the player; this class only picks the frame to draw.
+ */
 public class Character extends GameObject{
-    private int lives;
-    private boolean hasKey;
-    private Key key;
-    private Rectangle boundingRectangle;
-    private Hud hud;
+    private final Player player;
     private Animation<TextureRegion> upAnimation, downAnimation, leftAnimation, rightAnimation;
     private Animation<TextureRegion> currentAnimation;
-    private GameMap maze;
     private float stateTime;
-    private float speed = 90;
     private TextureRegion keyFrame;
-    private float trapCooldownTime = 0; //cooldown
-    private final float trapCooldownDuration = 0.7f; //1 second cooldown
-    private MazeRunnerGame game; //ToDo: delete?
     private Animation<TextureRegion> standingDownAnimation, standingRightAnimation, standingUpAnimation,standingLeftAnimation;
-    private MovementState currentMovementState = MovementState.STANDING;
 
     // Additional attributes to handle animations
     private TextureRegion currentFrame;
@@ -36,35 +24,21 @@ public class Character extends GameObject{
     private static final int FRAME_ROWS = 8; // Number of rows in the sprite sheet
 
 
-    // Helper method to extract frames from the given row
-    public enum Direction {
-        DOWN, UP, LEFT, RIGHT
-    }
-
-    // Current direction the character is facing
-    private Direction currentDirection = Direction.DOWN;
-
+    /**
+     * Constructs the view of a player.
+     *
+     * @param player         The player to draw.
+     * @param texturePath    The path of the character sprite sheet.
+     * @param textureManager The texture manager providing the frames of the sprite sheet.
+     */
+    public Character(Player player, String texturePath, TextureManager textureManager) {
+        super(player.getX(), player.getY(), texturePath, textureManager);
+        this.player = player;
 
-    public Character(float x, float y, String texturePath, int lives, GameMap maze, TextureManager textureManager) {
-        super(x, y, texturePath, textureManager);
-        this.hasKey = false;
-        this.key = null;
-        this.lives = lives;
-        this.maze = maze;
+        // Take the shared frames of the sprite sheet from the texture manager
+        TextureRegion[][] tmp = textureManager.getFrames(texturePath, FRAME_COLS, FRAME_ROWS);
+        keyFrame = textureManager.getFrame(texturePath, 33, 20, 16, 5);
 
-        // Split the sprite sheet into individual frames
-        Texture characterSheet = new Texture(Gdx.files.internal(texturePath));
-        TextureRegion[][] tmp = TextureRegion.split(characterSheet,
-                characterSheet.getWidth() / FRAME_COLS,
-                characterSheet.getHeight() / FRAME_ROWS);
-
-        Texture objectSheet = new Texture(Gdx.files.internal(texturePath));
-        TextureRegion[][] tmp2 = TextureRegion.split(characterSheet,
-                objectSheet.getWidth() / 33,
-                objectSheet.getHeight() / 20);
-        keyFrame = tmp2[16][5];
-
-        boundingRectangle = new Rectangle(x, y, getWidth(), getHeight());
         // Assuming you want the first frame of the first animation row
         upAnimation = new Animation<>(0.1f, getFrames(tmp, 2, 0, 4)); // First four frames of the third row
         downAnimation = new Animation<>(0.1f, getFrames(tmp, 0, 0, 4)); // First four frames of the first row
@@ -79,13 +53,6 @@ public Character(float x, float y, String texturePath, int lives, GameMap maze,
         stateTime = 0f;
     }
 
-    public enum MovementState {
-        STANDING, MOVING_UP, MOVING_DOWN, MOVING_LEFT, MOVING_RIGHT
-    }
-
-
-    // Current movement state
-
 
     private Array<TextureRegion> getFrames(TextureRegion[][] frames, int startRow, int startCol, int frameCount) {
         Array<TextureRegion> animationFrames = new Array<>();
@@ -105,37 +72,46 @@ private Array<TextureRegion> getStandingFrames(TextureRegion[][] frames, int sta
         return animationFrames;
     }
 
-    public void checkForStop() {
-        if (!Gdx.input.isKeyPressed(Input.Keys.UP) &&
-                !Gdx.input.isKeyPressed(Input.Keys.DOWN) &&
-                !Gdx.input.isKeyPressed(Input.Keys.LEFT) &&
-                !Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
-            currentMovementState = MovementState.STANDING;
-        }
-    }
     //specifies how to draw the character on the screen using a SpriteBatch
     @Override
     public void render(SpriteBatch batch) {
-        checkForStop();
-        if (currentMovementState == MovementState.STANDING) {
-            switch (currentDirection) {
-                case DOWN:
-                    currentAnimation = standingDownAnimation;
-                    break;
-                case UP:
-                    currentAnimation = standingUpAnimation;
-                    break;
-                case LEFT:
-                    currentAnimation = standingLeftAnimation;
-                    break;
-                case RIGHT:
-                    currentAnimation = standingRightAnimation;
-                    break;
-            }
+        updateCurrentFrame();
+        batch.draw(currentFrame, player.getX(), player.getY());  // Draw at the player's current position
+
+    }
+
+    /**
+     * Adds the current frame of the character to the render queue of this frame.
+     *
+     * @param queue The render queue of the world.
+     * @param alpha The interpolation factor between the last two simulation ticks.
+     */
+    public void submit(RenderQueue queue, float alpha) {
+        updateCurrentFrame();
+        queue.submit(RenderQueue.LAYER_CHARACTER, currentFrame, player.getRenderX(alpha), player.getRenderY(alpha));
+    }
+
+    /**
+     * Picks the frame of the walking animation of the player's direction, or of the standing animation if the player
+     * did not move in the last tick.
+     */
+    private void updateCurrentFrame() {
+        boolean moving = player.isMoving();
+        switch (player.getDirection()) {
+            case DOWN:
+                currentAnimation = moving ? downAnimation : standingDownAnimation;
+                break;
+            case UP:
+                currentAnimation = moving ? upAnimation : standingUpAnimation;
+                break;
+            case LEFT:
+                currentAnimation = moving ? leftAnimation : standingLeftAnimation;
+                break;
+            case RIGHT:
+                currentAnimation = moving ? rightAnimation : standingRightAnimation;
+                break;
         }
         currentFrame = currentAnimation.getKeyFrame(stateTime, true);  // Get current frame based on the state time
-        batch.draw(currentFrame, getX(), getY());  // Draw at character's current position
-
     }
 
 
@@ -144,72 +120,22 @@ public void render(SpriteBatch batch, float x, float y) {
         //not needed?
     }
 
-
-    // Movement methods
-    public void moveUp() {
-        setY(getY() + speed * Gdx.graphics.getDeltaTime());
-        currentAnimation = upAnimation;
-        currentMovementState = MovementState.MOVING_UP;
-        currentDirection = Direction.UP;
-    }
-    public void moveDown() {
-        setY(getY() - speed * Gdx.graphics.getDeltaTime());
-        currentAnimation = downAnimation;
-        currentMovementState = MovementState.MOVING_DOWN;
-        currentDirection = Direction.DOWN;
-    }
-    public void moveRight() {
-        setX(getX() + speed * Gdx.graphics.getDeltaTime());
-        currentAnimation = rightAnimation;
-        currentMovementState = MovementState.MOVING_RIGHT;
-        currentDirection = Direction.RIGHT;
-    }
-    public void moveLeft() {
-        setX(getX() - speed * Gdx.graphics.getDeltaTime());
-        currentAnimation = leftAnimation;
-        currentMovementState = MovementState.MOVING_LEFT;
-        currentDirection = Direction.LEFT;
-    }
-
-
-    public void resetAnimationStateTime() {
-        stateTime = 0f;
-    }
-
-    public int getLives() {
-        return lives;
-    }
-    public void setHud(Hud hud) {
-        this.hud = hud;
-    }
-
-
-    public void loseLife() {
-        if (trapCooldownTime <= 0 &&lives > 0) { //cooldown
-            lives--;
-            trapCooldownTime = trapCooldownDuration; //cooldown
-            if (hud != null) {
-                hud.setScore(lives);  // This will also update the hearts on the HUD
-                if (lives == 0) {
-                    hud.showGameOverScreen();
-                }
-            }
-        }
-
-    }
-    public void gainLife() {
-        if(hud.getScore()<5){
-            lives++;
-            if (hud != null) {
-                hud.setScore(lives);  // This will also update the hearts on the HUD
-                if (lives == 0) {
-                    hud.showGameOverScreen();
-                }
-            }
+    /**
+     * Advances the animation. The state time is reset while the player stands still.
+     *
+     * @param delta The time in seconds since the last frame.
+     */
+    public void update(float delta) {
+        if (player.isMoving()) {
+            stateTime += delta;
+        } else {
+            stateTime = 0f;
         }
     }
 
-
+    public Player getPlayer() {
+        return player;
+    }
 
     public float getWidth() {
         if (keyFrame != null) {
@@ -224,56 +150,4 @@ public float getHeight() {
         }
         return 0; // Return a default height if keyFrame is null
     }
-
-
-    public boolean hasKey() {
-        return hasKey;
-    }
-
-    public void setLives(int lives) {
-        this.lives = lives;
-    }
-
-    public void setHasKey(boolean hasKey) {
-        this.hasKey = hasKey;
-    }
-
-    public void setPosition(int x, int y) {
-        super.setX(x);
-        super.setY(y);
-    }
-
-    public Rectangle getBoundingRectangle() {
-        return boundingRectangle;
-    }
-
-    public boolean collidesWith(Rectangle otherRectangle) {
-        return boundingRectangle.overlaps(otherRectangle);
-    }
-
-    //ToDo delete?
-    public void checkForKeyCollision(Key key) {
-        if (!key.isCollected() && getBoundingRectangle().overlaps(key.getBoundingRectangle())) {
-            key.collect(maze);
-            //character collects key
-            hasKey = true;
-            if (hud != null) {
-                hud.showKeyCollected();
-            }
-        }
-    }
-
-
-    //cooldown
-    public void update(float deltaTime) {
-        stateTime += deltaTime;
-        checkForStop();
-        if (trapCooldownTime > 0) {
-            trapCooldownTime -= deltaTime;
-        }
-        if (maze.collusionWithKey(getX(), getY()) && !hasKey){
-            hasKey = true;
-        }
-        boundingRectangle.setPosition(getX(), getY());
-    }
-}
\ No newline at end of file
+}
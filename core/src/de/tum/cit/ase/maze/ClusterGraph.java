@@ -0,0 +1,560 @@
+package de.tum.cit.ase.maze;
+
+import java.util.Arrays;
+
+/**
+ * The abstract graph of {@link HierarchicalPathfinding} for one map. The map is split into clusters of
+ * {@link #CLUSTER_SIZE} x {@link #CLUSTER_SIZE} tiles. Where two neighboring clusters touch, every run of tiles that
+ * are walkable on both sides of the border is an entrance: a short one gets a node in the middle, a long one a node
+ * at each end, on both sides of the border. The nodes of the two sides are connected by one step, the nodes of one
+ * cluster by the length of the shortest path between them inside the cluster, which is precomputed with a
+ * breadth-first search; an edge inside a cluster is left out if a third node lies on a shortest path between its
+ * ends. A path between two far away tiles can then be found on the nodes alone, and only has to be refined inside
+ * single clusters. To guide that search, the distances on the graph from a few landmark nodes far apart from each
+ * other are measured as well (ALT): in a winding maze they give a much better lower bound of the remaining distance
+ * than the Manhattan distance.
+ * <p>
+ * The nodes are numbered densely, the ids of the nodes of a cluster follow each other. If a walkable tile changes,
+ * {@link #tileChanged(int, int)} rebuilds its cluster and the neighbors whose border it is on; all other clusters
+ * keep their nodes and distances. The landmark distances of the rebuilt nodes are forgotten and not measured again.
+ * The graph is not meant to be patched while another thread searches on it.
+ */
+public class ClusterGraph {
+    public static final int CLUSTER_SIZE = 16;
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+    // at most every other tile of each of the four borders starts an entrance
+    static final int MAX_NODES = 4 * ((CLUSTER_SIZE + 1) / 2);
+    static final int MAX_EDGES = MAX_NODES + 4; // of one node, to the other nodes of its cluster and across borders
+    static final int LANDMARKS = 8; // nodes the distances on the graph are measured from
+    private static final int LONG_ENTRANCE = 6; // entrances at least this wide get a node at both ends
+    private static final int SEED_ATTEMPTS = 16; // nodes tried to find a large connected part for the landmarks
+    // sides of a cluster, bits of the side mask of a node
+    private static final int LEFT = 0, RIGHT = 1, DOWN = 2, UP = 3;
+
+    private final MazeWorld world;
+    private final int width; // of the map in tiles
+    private final int height;
+    private final int clustersX;
+    private final int clustersY;
+    // per cluster
+    private final int[] firstNode; // id of the first node of the cluster
+    private final int[] nodeCounts;
+    private final int[] capacities; // number of ids reserved for the cluster
+    // the edges inside the cluster: for each node the offset of its first edge (and one past the last node), then the
+    // edges, each one the index of the other node | the distance << 8
+    private final int[][] edges;
+    // per node id
+    private long[] nodeTiles = new long[256]; // tile index (long) y * width + x
+    private byte[] nodeSides = new byte[256]; // sides of the cluster on which the node is an entrance
+    private int[] nodeClusters = new int[256]; // cluster of the node, -1 for ids that are no longer used
+    private int nodeIds;
+    // per node id the distances from the landmarks, next to each other, UNREACHABLE if not connected or not known
+    private int[] landmarkDistances = new int[0];
+    private int landmarkCount;
+    // scratch arrays of building a cluster
+    private final long[] foundTiles = new long[MAX_NODES];
+    private final byte[] foundSides = new byte[MAX_NODES];
+    private int foundCount;
+    private final boolean[] free = new boolean[CLUSTER_SIZE * CLUSTER_SIZE];
+    private final int[] tileDistances = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+    private final int[] queue = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+    private final boolean[] wanted = new boolean[CLUSTER_SIZE * CLUSTER_SIZE]; // nodes a search still has to find
+    private final int[] pairDistances = new int[MAX_NODES * MAX_NODES];
+    private final int[] foundEdges = new int[MAX_NODES + 1 + MAX_NODES * MAX_NODES];
+
+    /**
+     * Builds the nodes and distances of all clusters of a world.
+     *
+     * @param world The world.
+     */
+    public ClusterGraph(MazeWorld world) {
+        this.world = world;
+        width = world.getWidth();
+        height = world.getHeight();
+        clustersX = (width + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+        clustersY = (height + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+        int clusters = clustersX * clustersY;
+        firstNode = new int[clusters];
+        nodeCounts = new int[clusters];
+        capacities = new int[clusters];
+        edges = new int[clusters][];
+        for (int cluster = 0; cluster < clusters; cluster++) {
+            buildCluster(cluster);
+        }
+        placeLandmarks();
+    }
+
+    /**
+     * Patches the graph after the walkability of a tile changed: rebuilds the cluster of the tile, and the neighbors
+     * that share a border with it if the tile lies on that border.
+     *
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     */
+    public void tileChanged(int x, int y) {
+        int clusterX = x / CLUSTER_SIZE, clusterY = y / CLUSTER_SIZE;
+        buildCluster(clusterY * clustersX + clusterX);
+        if (x == getClusterX(clusterX) && clusterX > 0) {
+            buildCluster(clusterY * clustersX + clusterX - 1);
+        }
+        if (x == getClusterX(clusterX + 1) - 1 && clusterX + 1 < clustersX) {
+            buildCluster(clusterY * clustersX + clusterX + 1);
+        }
+        if (y == getClusterY(clusterY) && clusterY > 0) {
+            buildCluster((clusterY - 1) * clustersX + clusterX);
+        }
+        if (y == getClusterY(clusterY + 1) - 1 && clusterY + 1 < clustersY) {
+            buildCluster((clusterY + 1) * clustersX + clusterX);
+        }
+    }
+
+    /**
+     * @return The number of node ids in use, every node id is smaller.
+     */
+    public int getNodeIdCount() {
+        return nodeIds;
+    }
+
+    /**
+     * Returns the cluster a tile belongs to.
+     *
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     * @return The index of the cluster.
+     */
+    public int getCluster(int x, int y) {
+        return (y / CLUSTER_SIZE) * clustersX + x / CLUSTER_SIZE;
+    }
+
+    /**
+     * @param cluster The index of a cluster.
+     * @return The id of the first node of the cluster, the other ones follow it.
+     */
+    public int getFirstNode(int cluster) {
+        return firstNode[cluster];
+    }
+
+    /**
+     * @param cluster The index of a cluster.
+     * @return The number of nodes of the cluster.
+     */
+    public int getNodeCount(int cluster) {
+        return nodeCounts[cluster];
+    }
+
+    /**
+     * @param node A node id.
+     * @return The index of the cluster of the node.
+     */
+    public int getNodeCluster(int node) {
+        return nodeClusters[node];
+    }
+
+    /**
+     * @param node A node id.
+     * @return The tile of the node as {@code (long) y * width + x}.
+     */
+    public long getNodeTile(int node) {
+        return nodeTiles[node];
+    }
+
+    /**
+     * @return The number of landmarks, see {@link #getLandmarkDistance(int, int)}.
+     */
+    public int getLandmarkCount() {
+        return landmarkCount;
+    }
+
+    /**
+     * Returns the length of the shortest path on the graph from a landmark node to a node. By the triangle inequality,
+     * the difference of the distances of two nodes to the same landmark is a lower bound of the distance between the
+     * two nodes, which is much closer than the Manhattan distance in a winding maze.
+     *
+     * @param landmark The index of the landmark.
+     * @param node     A node id.
+     * @return The distance, or {@link #UNREACHABLE} if the node is not connected to the landmark or was rebuilt after
+     *         the landmarks were measured.
+     */
+    public int getLandmarkDistance(int landmark, int node) {
+        return landmarkDistances[node * LANDMARKS + landmark];
+    }
+
+    /**
+     * Finds the edges of a node: to the other nodes of its cluster that can be reached without passing a third node
+     * on a shortest path, and to the nodes across its borders, which are one step away.
+     *
+     * @param node    A node id.
+     * @param targets Filled with the ids of the nodes at the other ends, room for {@link #MAX_EDGES} of them.
+     * @param costs   Filled with the lengths of the edges.
+     * @return The number of edges.
+     */
+    public int getEdges(int node, int[] targets, int[] costs) {
+        int cluster = nodeClusters[node];
+        int first = firstNode[cluster];
+        int[] clusterEdges = edges[cluster];
+        int from = node - first;
+        int count = 0;
+        for (int i = clusterEdges[from]; i < clusterEdges[from + 1]; i++) {
+            targets[count] = first + (clusterEdges[i] & 0xFF);
+            costs[count++] = clusterEdges[i] >>> 8;
+        }
+        int sides = nodeSides[node];
+        long tile = nodeTiles[node];
+        if ((sides & (1 << LEFT)) != 0) {
+            count = addNode(cluster - 1, tile - 1, targets, costs, count);
+        }
+        if ((sides & (1 << RIGHT)) != 0) {
+            count = addNode(cluster + 1, tile + 1, targets, costs, count);
+        }
+        if ((sides & (1 << DOWN)) != 0) {
+            count = addNode(cluster - clustersX, tile - width, targets, costs, count);
+        }
+        if ((sides & (1 << UP)) != 0) {
+            count = addNode(cluster + clustersX, tile + width, targets, costs, count);
+        }
+        return count;
+    }
+
+    private int addNode(int cluster, long tile, int[] targets, int[] costs, int count) {
+        int first = firstNode[cluster];
+        for (int node = first; node < first + nodeCounts[cluster]; node++) {
+            if (nodeTiles[node] == tile) {
+                targets[count] = node;
+                costs[count++] = 1;
+                break;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Measures the length of the shortest paths from a tile to all tiles of its cluster that stay inside the cluster.
+     * The arrays are passed in so that several threads can measure at the same time.
+     *
+     * @param x             The x-coordinate of the tile, which does not have to be walkable itself.
+     * @param y             The y-coordinate of the tile.
+     * @param free          Scratch array of {@code CLUSTER_SIZE * CLUSTER_SIZE} flags.
+     * @param queue         Scratch array of {@code CLUSTER_SIZE * CLUSTER_SIZE} entries.
+     * @param tileDistances Filled with the length of the path to each tile of the cluster, indexed by
+     *                      {@link #toClusterTile(int, int)}, {@link #UNREACHABLE} for tiles without one.
+     */
+    public void measureDistances(int x, int y, boolean[] free, int[] queue, int[] tileDistances) {
+        int cluster = getCluster(x, y);
+        findFreeTiles(cluster, free);
+        measureDistances(cluster, x, y, free, queue, tileDistances, -1);
+    }
+
+    /**
+     * Returns the index of a tile within its cluster, e.g. in the distances of
+     * {@link #measureDistances(int, int, boolean[], int[], int[])}.
+     *
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     * @return The index of the tile within its cluster.
+     */
+    public static int toClusterTile(int x, int y) {
+        return (y % CLUSTER_SIZE) * CLUSTER_SIZE + x % CLUSTER_SIZE;
+    }
+
+    /**
+     * Returns the x-coordinate of the left tile column of a column of clusters.
+     */
+    int getClusterX(int clusterX) {
+        return Math.min(clusterX * CLUSTER_SIZE, width);
+    }
+
+    /**
+     * Returns the y-coordinate of the bottom tile row of a row of clusters.
+     */
+    int getClusterY(int clusterY) {
+        return Math.min(clusterY * CLUSTER_SIZE, height);
+    }
+
+    /**
+     * Finds the entrances on the four borders of a cluster and measures the distances between them.
+     */
+    private void buildCluster(int cluster) {
+        int clusterX = cluster % clustersX, clusterY = cluster / clustersX;
+        int x0 = getClusterX(clusterX), x1 = getClusterX(clusterX + 1) - 1;
+        int y0 = getClusterY(clusterY), y1 = getClusterY(clusterY + 1) - 1;
+        foundCount = 0;
+        if (clusterX > 0) {
+            findEntrances(LEFT, x0, y0, 0, 1, y1 - y0 + 1, -1, 0);
+        }
+        if (clusterX + 1 < clustersX) {
+            findEntrances(RIGHT, x1, y0, 0, 1, y1 - y0 + 1, 1, 0);
+        }
+        if (clusterY > 0) {
+            findEntrances(DOWN, x0, y0, 1, 0, x1 - x0 + 1, 0, -1);
+        }
+        if (clusterY + 1 < clustersY) {
+            findEntrances(UP, x0, y1, 1, 0, x1 - x0 + 1, 0, 1);
+        }
+
+        // reuse the ids of the cluster if there are enough, otherwise take new ones at the end
+        if (foundCount > capacities[cluster]) {
+            for (int node = firstNode[cluster]; node < firstNode[cluster] + capacities[cluster]; node++) {
+                nodeClusters[node] = -1;
+            }
+            firstNode[cluster] = nodeIds;
+            capacities[cluster] = foundCount;
+            nodeIds += foundCount;
+            if (nodeIds > nodeTiles.length) {
+                int length = Math.max(nodeIds, nodeTiles.length * 2);
+                nodeTiles = Arrays.copyOf(nodeTiles, length);
+                nodeSides = Arrays.copyOf(nodeSides, length);
+                nodeClusters = Arrays.copyOf(nodeClusters, length);
+            }
+        }
+        int first = firstNode[cluster];
+        for (int i = 0; i < capacities[cluster]; i++) {
+            nodeClusters[first + i] = i < foundCount ? cluster : -1;
+        }
+        forgetLandmarkDistances(first, capacities[cluster]);
+        System.arraycopy(foundTiles, 0, nodeTiles, first, foundCount);
+        System.arraycopy(foundSides, 0, nodeSides, first, foundCount);
+        nodeCounts[cluster] = foundCount;
+
+        findFreeTiles(cluster, free);
+        for (int i = 0; i < foundCount; i++) {
+            long tile = foundTiles[i];
+            wanted[toClusterTile((int) (tile % width), (int) (tile / width))] = true;
+        }
+        for (int from = 0; from < foundCount; from++) {
+            // the distances are symmetric, each search only has to find the nodes after its own
+            int x = (int) (foundTiles[from] % width), y = (int) (foundTiles[from] / width);
+            wanted[toClusterTile(x, y)] = false;
+            measureDistances(cluster, x, y, free, queue, tileDistances, foundCount - 1 - from);
+            pairDistances[from * foundCount + from] = 0;
+            for (int to = from + 1; to < foundCount; to++) {
+                long toTile = foundTiles[to];
+                int distance = tileDistances[toClusterTile((int) (toTile % width), (int) (toTile / width))];
+                pairDistances[from * foundCount + to] = distance;
+                pairDistances[to * foundCount + from] = distance;
+            }
+        }
+        // leave out the edges that are as long as a detour over a third node, the search finds that one anyway
+        int edgeCount = foundCount + 1;
+        for (int from = 0; from < foundCount; from++) {
+            foundEdges[from] = edgeCount;
+            for (int to = 0; to < foundCount; to++) {
+                int distance = pairDistances[from * foundCount + to];
+                if (to != from && distance != UNREACHABLE && !isDetour(from, to, distance)) {
+                    foundEdges[edgeCount++] = to | distance << 8;
+                }
+            }
+        }
+        foundEdges[foundCount] = edgeCount;
+        edges[cluster] = Arrays.copyOf(foundEdges, edgeCount);
+    }
+
+    /**
+     * Returns whether a shortest path between two nodes of the cluster being built passes a third node.
+     */
+    private boolean isDetour(int from, int to, int distance) {
+        for (int over = 0; over < foundCount; over++) {
+            int first = pairDistances[from * foundCount + over], second = pairDistances[over * foundCount + to];
+            if (over != from && over != to && first != UNREACHABLE && second != UNREACHABLE
+                    && first + second == distance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Places the landmarks far apart, each one at the node farthest from the ones placed before, and measures the
+     * distances from them to all nodes. The first search starts from a node of a large connected part of the map, so
+     * that the landmarks do not end up in a small closed-off pocket.
+     */
+    private void placeLandmarks() {
+        IndexedMinHeap heap = new IndexedMinHeap();
+        int[] targets = new int[MAX_EDGES];
+        int[] costs = new int[MAX_EDGES];
+        int[] distances = new int[nodeIds];
+        int reached = 0;
+        for (int attempt = 0; attempt < SEED_ATTEMPTS && reached * 2 < nodeIds; attempt++) {
+            reached = measureGraphDistances((int) ((long) attempt * nodeIds / SEED_ATTEMPTS), distances, heap, targets, costs);
+        }
+        landmarkDistances = new int[nodeTiles.length * LANDMARKS];
+        Arrays.fill(landmarkDistances, UNREACHABLE);
+        int[] nearest = distances.clone(); // distance to the nearest landmark so far, or to the seed at first
+        for (landmarkCount = 0; landmarkCount < LANDMARKS; landmarkCount++) {
+            int farthest = -1;
+            for (int node = 0; node < nodeIds; node++) {
+                if (nearest[node] != UNREACHABLE && (farthest < 0 || nearest[node] > nearest[farthest])) {
+                    farthest = node;
+                }
+            }
+            if (farthest < 0 || (landmarkCount > 0 && nearest[farthest] == 0)) {
+                break; // no nodes, or every node is a landmark
+            }
+            measureGraphDistances(farthest, distances, heap, targets, costs);
+            for (int node = 0; node < nodeIds; node++) {
+                landmarkDistances[node * LANDMARKS + landmarkCount] = distances[node];
+                nearest[node] = landmarkCount == 0 ? distances[node] : Math.min(nearest[node], distances[node]);
+            }
+        }
+    }
+
+    /**
+     * Dijkstra's algorithm on the graph.
+     *
+     * @return The number of nodes reached.
+     */
+    private int measureGraphDistances(int source, int[] distances, IndexedMinHeap heap, int[] targets, int[] costs) {
+        Arrays.fill(distances, UNREACHABLE);
+        heap.clear(nodeIds);
+        distances[source] = 0;
+        heap.add(source, IndexedMinHeap.key(0, 0));
+        int reached = 0;
+        while (!heap.isEmpty()) {
+            int node = heap.pop();
+            reached++;
+            int distance = distances[node];
+            int edgeCount = getEdges(node, targets, costs);
+            for (int i = 0; i < edgeCount; i++) {
+                relax(targets[i], distance + costs[i], distances, heap);
+            }
+        }
+        return reached;
+    }
+
+    private static void relax(int node, int distance, int[] distances, IndexedMinHeap heap) {
+        if (distance < distances[node]) {
+            boolean isOpen = heap.contains(node);
+            distances[node] = distance;
+            if (isOpen) {
+                heap.decreaseKey(node, IndexedMinHeap.key(distance, 0));
+            } else {
+                heap.add(node, IndexedMinHeap.key(distance, 0));
+            }
+        }
+    }
+
+    /**
+     * Marks the landmark distances of rebuilt nodes as unknown. The distances of the other nodes may be a little off
+     * after a patch; the searches then still find a path, but maybe not the shortest one on the graph.
+     */
+    private void forgetLandmarkDistances(int first, int count) {
+        if (landmarkCount == 0) {
+            return; // not placed yet
+        }
+        if (landmarkDistances.length < nodeTiles.length * LANDMARKS) {
+            int oldLength = landmarkDistances.length;
+            landmarkDistances = Arrays.copyOf(landmarkDistances, nodeTiles.length * LANDMARKS);
+            Arrays.fill(landmarkDistances, oldLength, landmarkDistances.length, UNREACHABLE);
+        }
+        Arrays.fill(landmarkDistances, first * LANDMARKS, (first + count) * LANDMARKS, UNREACHABLE);
+    }
+
+    /**
+     * Walks along one border of a cluster and adds a node for each run of tiles that are walkable on both sides.
+     *
+     * @param side     The side of the cluster.
+     * @param x        The x-coordinate of the first tile of the border inside the cluster.
+     * @param y        The y-coordinate of the first tile of the border inside the cluster.
+     * @param dx       The step along the border.
+     * @param dy       The step along the border.
+     * @param length   The number of tiles of the border.
+     * @param outsideX The offset to the tile across the border.
+     * @param outsideY The offset to the tile across the border.
+     */
+    private void findEntrances(int side, int x, int y, int dx, int dy, int length, int outsideX, int outsideY) {
+        int runStart = -1;
+        for (int i = 0; i <= length; i++) {
+            int tileX = x + i * dx, tileY = y + i * dy;
+            boolean open = i < length
+                    && world.isCellfree(tileX, tileY) && world.isCellfree(tileX + outsideX, tileY + outsideY);
+            if (open && runStart < 0) {
+                runStart = i;
+            } else if (!open && runStart >= 0) {
+                // both sides of the border walk the runs in the same order, so they place their nodes opposite
+                int runEnd = i - 1;
+                if (runEnd - runStart + 1 >= LONG_ENTRANCE) {
+                    addEntrance(side, x + runStart * dx, y + runStart * dy);
+                    addEntrance(side, x + runEnd * dx, y + runEnd * dy);
+                } else {
+                    int middle = (runStart + runEnd) / 2;
+                    addEntrance(side, x + middle * dx, y + middle * dy);
+                }
+                runStart = -1;
+            }
+        }
+    }
+
+    /**
+     * Adds a node for an entrance, or marks the side on an existing node of the same tile (a corner).
+     */
+    private void addEntrance(int side, int x, int y) {
+        long tile = (long) y * width + x;
+        for (int i = 0; i < foundCount; i++) {
+            if (foundTiles[i] == tile) {
+                foundSides[i] |= (byte) (1 << side);
+                return;
+            }
+        }
+        foundTiles[foundCount] = tile;
+        foundSides[foundCount] = (byte) (1 << side);
+        foundCount++;
+    }
+
+    /**
+     * Marks the walkable tiles of a cluster, indexed by {@link #toClusterTile(int, int)}.
+     */
+    private void findFreeTiles(int cluster, boolean[] free) {
+        int clusterX = cluster % clustersX, clusterY = cluster / clustersX;
+        int x0 = getClusterX(clusterX), x1 = getClusterX(clusterX + 1);
+        int y0 = getClusterY(clusterY), y1 = getClusterY(clusterY + 1);
+        for (int y = y0; y < y1; y++) {
+            for (int x = x0; x < x1; x++) {
+                free[toClusterTile(x, y)] = world.isCellfree(x, y);
+            }
+        }
+    }
+
+    /**
+     * Breadth-first search from a tile over the walkable tiles of its cluster. Stops early once it has found the given
+     * number of {@link #wanted} tiles, then the distances of the tiles not found yet are left at {@link #UNREACHABLE}.
+     */
+    private void measureDistances(int cluster, int x, int y, boolean[] free, int[] queue, int[] tileDistances,
+                                  int wantedCount) {
+        int clusterX = cluster % clustersX, clusterY = cluster / clustersX;
+        int x0 = getClusterX(clusterX), x1 = getClusterX(clusterX + 1) - 1;
+        int y0 = getClusterY(clusterY), y1 = getClusterY(clusterY + 1) - 1;
+        Arrays.fill(tileDistances, UNREACHABLE);
+        int start = toClusterTile(x, y);
+        tileDistances[start] = 0;
+        queue[0] = start;
+        int head = 0, tail = 1;
+        while (head < tail && wantedCount != 0) {
+            int current = queue[head++];
+            if (wantedCount > 0 && wanted[current] && --wantedCount == 0) {
+                break;
+            }
+            int currentX = x0 + current % CLUSTER_SIZE, currentY = y0 + current / CLUSTER_SIZE;
+            int distance = tileDistances[current] + 1;
+            // left, right, down, up, without leaving the cluster
+            if (currentX > x0) {
+                tail = visit(current - 1, distance, free, queue, tail, tileDistances);
+            }
+            if (currentX < x1) {
+                tail = visit(current + 1, distance, free, queue, tail, tileDistances);
+            }
+            if (currentY > y0) {
+                tail = visit(current - CLUSTER_SIZE, distance, free, queue, tail, tileDistances);
+            }
+            if (currentY < y1) {
+                tail = visit(current + CLUSTER_SIZE, distance, free, queue, tail, tileDistances);
+            }
+        }
+    }
+
+    private static int visit(int tile, int distance, boolean[] free, int[] queue, int tail, int[] tileDistances) {
+        if (free[tile] && tileDistances[tile] == UNREACHABLE) {
+            tileDistances[tile] = distance;
+            queue[tail++] = tile;
+        }
+        return tail;
+    }
+}
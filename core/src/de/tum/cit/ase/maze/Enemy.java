@@ -1,119 +1,85 @@
 package de.tum.cit.ase.maze;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
-import java.awt.*;
-import java.util.List;
+
+import java.util.Random;
 
 /**
- * Represents an enemy in the game, extending the {@link GameObject} class. This class handles the enemy's
- * appearance, movement, and pathfinding behavior. Enemies can move randomly around the game map or follow
- * a path to the player character using A* pathfinding when the character is within a certain range.
+ * Represents an enemy in the simulation. This class handles the enemy's movement and pathfinding behavior.
+ * Enemies can move randomly around the game map or, when the player is within a certain range, follow the
+ * {@link FlowField} toward the player that all chasing enemies share. Positions are in tiles. The enemy has no
+ * texture; the {@link GameMap} draws all enemies with one shared frame.
  */
-public class Enemy extends GameObject {
-    private TextureRegion currentFrame;
-    private static final int FRAME_COLS = 12; // Number of columns in the sprite sheet
-    private static final int FRAME_ROWS = 8; // Number of rows in the sprite sheet
-
+public class Enemy extends MovingBody {
     //movement
     private static final float MOVE_INTERVAL = 3f; // Time interval in seconds for each move
     private float moveTimer = MOVE_INTERVAL; // Timer to track movement intervals
 
     // Intelligent movement
-    private List<Point> currentPath; // The shortest path to the player's character
-    private int pathIndex; // The current index in the path being followed
-
-    /**
-     * Constructs a new Enemy object with the specified position, texture, and texture manager.
-     *
-     * @param x              The x-coordinate of the enemy's initial position.
-     * @param y              The y-coordinate of the enemy's initial position.
-     * @param texturePath    The path to the texture file for the enemy sprite.
-     * @param textureManager The {@link TextureManager} responsible for managing game textures.
-     */
-    public Enemy(float x, float y, String texturePath, TextureManager textureManager) {
-        super(x, y, texturePath, textureManager);
-
-        // Split the sprite sheet into individual frames
-        Texture basicSheet = new Texture(Gdx.files.internal(texturePath));
-        TextureRegion[][] tmp = TextureRegion.split(basicSheet,
-                basicSheet.getWidth() / FRAME_COLS,
-                basicSheet.getHeight() / FRAME_ROWS);
-
-        // Ghost is enemy
-        currentFrame = tmp[5][7];
-        this.currentPath = null;
-        this.pathIndex = 0;
-    }
+    private boolean chasing; // The enemy has noticed the player in range and follows the flow field
+    private long nextStep = NO_STEP; // The tile the enemy moves to while chasing, as (long) y * width + x
+    private static final int NO_STEP = -1;
+    private long bucket = EnemySpatialHash.NO_BUCKET; // bucket of the enemy in the spatial hash of the map
 
     /**
-     * Renders the enemy at its current position using the provided {@link SpriteBatch}.
+     * Constructs a new Enemy object at the specified tile.
      *
-     * @param batch The {@link SpriteBatch} used for drawing the enemy on the screen.
+     * @param x The x-coordinate of the enemy's initial position in tiles.
+     * @param y The y-coordinate of the enemy's initial position in tiles.
      */
-    @Override
-    public void render(SpriteBatch batch) {
-        batch.draw(currentFrame, super.getX() * 16, super.getY() * 16);
-    }
-
-    /**
-     * Not used for enemy but could render the enemy at a specified location.
-     *
-     * @param batch The {@link SpriteBatch} used for drawing the texture region.
-     * @param x     The x-coordinate where the enemy should be rendered.
-     * @param y     The y-coordinate where the enemy should be rendered.
-     */
-    public void render(SpriteBatch batch, float x, float y) {
-        batch.enableBlending();
-        batch.draw(currentFrame, x, y);
+    public Enemy(float x, float y) {
+        super(x, y);
     }
 
     // Enemy movement
     /**
-     * Updates the enemy's state with the passage of time. This includes moving randomly, following a path to the
-     * player character if in range, and updating the move timer. This method gets called every frame with
-     * the delta time since the last frame to ensure smooth movement and behavior.
+     * Updates the enemy's state with the passage of time. This includes moving randomly, following the flow field to
+     * the player if in range, and updating the move timer. This method gets called every simulation tick.
      *
-     * @param deltaTime The time in seconds that has elapsed since the last update.
-     * @param gameMap   The {@link GameMap} object representing the game map, used for collision checks and pathfinding.
-     * @param character The player's {@link Character} object, used for pathfinding towards the player when in range.
+     * @param deltaTime The length of the simulation tick in seconds.
+     * @param world     The {@link MazeWorld} the enemy moves in, used for collision checks.
+     * @param player    The {@link Player}, chased when in range.
+     * @param flowField The flow field toward the player, shared by all enemies.
+     * @param random    The random generator of the simulation, for the random movement.
      */
-    public void update(float deltaTime, GameMap gameMap, Character character) {
+    public void update(float deltaTime, MazeWorld world, Player player, FlowField flowField, Random random) {
 
-        if (isCharInRange(character)) {
-            moveTimer -= deltaTime;
-            if (moveTimer <= 0) {
-                //pathfinding algorithm with character center as endpoint
-                currentPath = (List<Point>) AStarPathfinding.findPath(gameMap, new Point((int) getX(), (int) getY()),
-                        new Point( ((int) (character.getX()/16+0.5f)) , ((int) (character.getY()/16+1))));
-                pathIndex = 0;
-                moveTimer = MOVE_INTERVAL;
+        if (isPlayerInRange(player)) {
+            if (!chasing) {
+                // the enemy notices the player when its move timer runs out, as before a random move
+                moveTimer -= deltaTime;
+                chasing = moveTimer <= 0;
+            }
+            if (chasing) {
+                followFlowField(deltaTime, world, flowField); // Intelligent movement
             }
-            followPath(deltaTime, gameMap); // Intelligent movement
 
         } else {
+            if (chasing) {
+                chasing = false;
+                nextStep = NO_STEP;
+                moveTimer = MOVE_INTERVAL;
+            }
             moveTimer -= deltaTime;
             if (moveTimer <= 1) {
-                moveRandomly(gameMap, deltaTime); // Random movement
+                moveRandomly(world, random); // Random movement
                 moveTimer = MOVE_INTERVAL;
             }
         }
+        world.enemyMoved(this); // keep the spatial hash up to date
 
     }
 
     /**
      * Moves the enemy randomly in one of four directions (up, down, left, right). This method is used when the
-     * enemy is not actively following a path to the player character.
+     * enemy is not actively following a path to the player.
      *
-     * @param gameMap   The {@link GameMap} object representing the game map, used for collision checks.
-     * @param deltaTime The time in seconds that has elapsed since the last update.
+     * @param world  The {@link MazeWorld} the enemy moves in, used for collision checks.
+     * @param random The random generator of the simulation.
      */
-    private void moveRandomly(GameMap gameMap, float deltaTime) {
+    private void moveRandomly(MazeWorld world, Random random) {
 
-        int direction = (int) (Math.random() * 4); // Random direction: 0-3
+        int direction = random.nextInt(4); // Random direction: 0-3
         float newX = getX(), newY = getY();
         switch (direction) {
             case 0:
@@ -131,7 +97,7 @@ private void moveRandomly(GameMap gameMap, float deltaTime) {
         }
 
         // Check if new position is valid
-        if (!gameMap.isCellBlocked(newX * 16, newY * 16)) { //tileSize
+        if (!world.isCellBlocked(newX * 16, newY * 16)) { //tileSize
             setX(newX);
             setY(newY);
         }
@@ -139,49 +105,74 @@ private void moveRandomly(GameMap gameMap, float deltaTime) {
 
 
     /**
-     * Checks whether the player character is within a specified range of the enemy. This is used to determine
-     * whether the enemy should start following a path to the player character using A* pathfinding.
+     * Checks whether the player is within a specified range of the enemy. This is used to determine
+     * whether the enemy should start following the shared {@link FlowField} toward the player.
      *
-     * @param character The player's {@link Character} object.
-     * @return {@code true} if the character is within the specified range, {@code false} otherwise.
+     * @param player The {@link Player}.
+     * @return {@code true} if the player is within the specified range, {@code false} otherwise.
      */
-    private boolean isCharInRange(Character character) {
+    private boolean isPlayerInRange(Player player) {
         int tileSize = 16; //size of our tiles
         float offsetX = (34 - tileSize) / 2f;
         float offsetY = (32 - tileSize) / 2f;
 
         // Calculate the offset to center the 16x16 collision box within the 34x32 sprite
-        float tileX = (character.getX() + offsetX) / tileSize;
-        float tileY = (character.getY() + offsetY) / tileSize;
+        float tileX = (player.getX() + offsetX) / tileSize;
+        float tileY = (player.getY() + offsetY) / tileSize;
         float distance = Vector2.dst(this.getX(), this.getY(), tileX, tileY);
         return distance <= 3; // Only start following if just three fields away
     }
 
     /**
-     * Follows the current path to the player character, moving to the next point in the path. This method is used
-     * when the enemy is actively pathfinding towards the player character.
+     * Moves toward the next step of the flow field, and takes the following step from the field once it is reached.
+     * This method is used when the enemy is actively chasing the player.
      *
-     * @param deltaTime The time in seconds that has elapsed since the last update.
-     * @param gameMap   The {@link GameMap} object representing the game map, used for collision checks.
+     * @param deltaTime The length of the simulation tick in seconds.
+     * @param world     The {@link MazeWorld} the enemy moves in, used for collision checks.
+     * @param flowField The flow field toward the player.
      */
-    private void followPath(float deltaTime, GameMap gameMap) {
-        if (currentPath != null && pathIndex < currentPath.size()) {
-            Point nextStep = currentPath.get(pathIndex);
+    private void followFlowField(float deltaTime, MazeWorld world, FlowField flowField) {
+        if (nextStep == NO_STEP) {
+            // the tile the enemy is on (or has almost reached)
+            nextStep = flowField.getNextStep(Math.round(getX()), Math.round(getY()));
+        }
+        if (nextStep != NO_STEP) {
+            int nextX = (int) (nextStep % world.getWidth());
+            int nextY = (int) (nextStep / world.getWidth());
 
             // Interpolate position
-            if (!gameMap.isCellBlocked(nextStep.x * 16, nextStep.y * 16)){
-                float lerpFactor = deltaTime * MOVE_INTERVAL; // Adjust factor based on deltaTime and MOVE_INTERVAL
-                setX(lerpX(getX(), nextStep.x, lerpFactor));
-                setY(lerpY(getY(), nextStep.y, lerpFactor));
+            if (!world.isCellBlocked(nextX * 16, nextY * 16)){
+                // exponential approach, so the enemy covers the same distance per second at every simulation rate
+                float lerpFactor = 1f - (float) Math.exp(-MOVE_INTERVAL * deltaTime);
+                setX(lerpX(getX(), nextX, lerpFactor));
+                setY(lerpY(getY(), nextY, lerpFactor));
             }
 
-            // Check if reached the next point (with some threshold)
-            if (Math.abs(getX() - nextStep.x) < 0.1f && Math.abs(getY() - nextStep.y) < 0.1f) {
-                pathIndex++;
+            // Check if reached the next point (with some threshold), then ask the field for the following one
+            if (Math.abs(getX() - nextX) < 0.1f && Math.abs(getY() - nextY) < 0.1f) {
+                nextStep = flowField.getNextStep(nextX, nextY);
             }
         }
     }
 
+    /**
+     * Returns the bucket of the enemy in the {@link EnemySpatialHash}, only used by the hash.
+     *
+     * @return The bucket key.
+     */
+    long getBucket() {
+        return bucket;
+    }
+
+    /**
+     * Sets the bucket of the enemy in the {@link EnemySpatialHash}, only used by the hash.
+     *
+     * @param bucket The bucket key.
+     */
+    void setBucket(long bucket) {
+        this.bucket = bucket;
+    }
+
     /**
      * Linearly interpolates between the current x-coordinate and the next x-coordinate in the path.
      *
@@ -0,0 +1,140 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * A uniform grid over the map that sorts the enemies into square buckets of {@link #BUCKET_SIZE} x {@link #BUCKET_SIZE}
+ * tiles, so overlap and range queries only look at the enemies in the buckets around the queried position instead of
+ * at every enemy of the map. Enemies have to call {@link #update(Enemy)} after they moved. Queries do not allocate.
+ */
+public class EnemySpatialHash {
+    public static final int BUCKET_SIZE = 4; // in tiles
+    static final long NO_BUCKET = Long.MIN_VALUE; // bucket of an enemy that is not in the hash
+
+    private final LongMap<Array<Enemy>> buckets = new LongMap<>();
+
+    /**
+     * Adds an enemy to the bucket of its current position.
+     *
+     * @param enemy The enemy to add, positions are in tiles.
+     */
+    public void add(Enemy enemy) {
+        long bucket = bucketOf(enemy.getX(), enemy.getY());
+        Array<Enemy> enemies = buckets.get(bucket);
+        if (enemies == null) {
+            enemies = new Array<>(false, 8);
+            buckets.put(bucket, enemies);
+        }
+        enemies.add(enemy);
+        enemy.setBucket(bucket);
+    }
+
+    /**
+     * Removes an enemy from the hash.
+     *
+     * @param enemy The enemy to remove.
+     */
+    public void remove(Enemy enemy) {
+        Array<Enemy> enemies = buckets.get(enemy.getBucket());
+        if (enemies != null) {
+            enemies.removeValue(enemy, true);
+        }
+        enemy.setBucket(NO_BUCKET);
+    }
+
+    /**
+     * Moves an enemy to the bucket of its current position. Does nothing if it is still in the same bucket.
+     *
+     * @param enemy The enemy that moved.
+     */
+    public void update(Enemy enemy) {
+        if (enemy.getBucket() != bucketOf(enemy.getX(), enemy.getY())) {
+            remove(enemy);
+            add(enemy);
+        }
+    }
+
+    /**
+     * Removes all enemies.
+     */
+    public void clear() {
+        buckets.clear();
+    }
+
+    /**
+     * Checks if any enemy lies within the given distances of a position, i.e. if
+     * {@code |enemyX - x| < halfWidth} and {@code |enemyY - y| < halfHeight}.
+     *
+     * @param x          The x-coordinate in tiles.
+     * @param y          The y-coordinate in tiles.
+     * @param halfWidth  The maximum horizontal distance in tiles (exclusive).
+     * @param halfHeight The maximum vertical distance in tiles (exclusive).
+     * @return {@code true} if at least one enemy is that close.
+     */
+    public boolean overlapsAny(float x, float y, float halfWidth, float halfHeight) {
+        int minBucketX = bucket(x - halfWidth), maxBucketX = bucket(x + halfWidth);
+        int minBucketY = bucket(y - halfHeight), maxBucketY = bucket(y + halfHeight);
+        for (int bucketY = minBucketY; bucketY <= maxBucketY; bucketY++) {
+            for (int bucketX = minBucketX; bucketX <= maxBucketX; bucketX++) {
+                Array<Enemy> enemies = buckets.get(key(bucketX, bucketY));
+                if (enemies == null) {
+                    continue;
+                }
+                for (int i = 0; i < enemies.size; i++) {
+                    Enemy enemy = enemies.get(i);
+                    if (Math.abs(enemy.getX() - x) < halfWidth && Math.abs(enemy.getY() - y) < halfHeight) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects all enemies within the given radius of a position.
+     *
+     * @param x      The x-coordinate in tiles.
+     * @param y      The y-coordinate in tiles.
+     * @param radius The radius in tiles (inclusive).
+     * @param result The array the enemies are written to, it is cleared first.
+     * @return The number of enemies found.
+     */
+    public int findInRadius(float x, float y, float radius, Array<Enemy> result) {
+        result.clear();
+        float radius2 = radius * radius;
+        int minBucketX = bucket(x - radius), maxBucketX = bucket(x + radius);
+        int minBucketY = bucket(y - radius), maxBucketY = bucket(y + radius);
+        for (int bucketY = minBucketY; bucketY <= maxBucketY; bucketY++) {
+            for (int bucketX = minBucketX; bucketX <= maxBucketX; bucketX++) {
+                Array<Enemy> enemies = buckets.get(key(bucketX, bucketY));
+                if (enemies == null) {
+                    continue;
+                }
+                for (int i = 0; i < enemies.size; i++) {
+                    Enemy enemy = enemies.get(i);
+                    float dx = enemy.getX() - x;
+                    float dy = enemy.getY() - y;
+                    if (dx * dx + dy * dy <= radius2) {
+                        result.add(enemy);
+                    }
+                }
+            }
+        }
+        return result.size;
+    }
+
+    private static int bucket(float coordinate) {
+        return MathUtils.floor(coordinate / BUCKET_SIZE);
+    }
+
+    private static long bucketOf(float x, float y) {
+        return key(bucket(x), bucket(y));
+    }
+
+    private static long key(int bucketX, int bucketY) {
+        return ((long) bucketX << 32) | (bucketY & 0xFFFFFFFFL);
+    }
+}
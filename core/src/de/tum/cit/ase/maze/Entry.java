@@ -24,12 +24,9 @@ public class Entry extends GameObject{
      */
     public Entry(float x, float y, String texturePath, TextureManager textureManager) {
         super(x, y, texturePath, textureManager);
-        // Split the sprite sheet into individual frames
-        TextureRegion[][] tmp = TextureRegion.split(texture,
-                texture.getWidth() / FRAME_COLS,
-                texture.getHeight() / FRAME_ROWS);
+        // Take the shared frame of the sprite sheet
         // Entry is grass
-        currentFrame = tmp[1][3];
+        currentFrame = textureManager.getFrame(texturePath, FRAME_COLS, FRAME_ROWS, 1, 3);
     }
 
     /**
@@ -54,4 +51,13 @@ public void render(SpriteBatch batch, float x, float y) {
         batch.draw(currentFrame, x, y);
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns the frame of the sprite sheet the entry is drawn with.
+     *
+     * @return The texture region of the entry.
+     */
+    @Override
+    public TextureRegion getCurrentFrame() {
+        return currentFrame;
+    }
+}
@@ -24,12 +24,9 @@ public class Exit extends GameObject{
      */
     public Exit(float x, float y, String texturePath, TextureManager textureManager) {
         super(x, y, texturePath, textureManager);
-        // Split the sprite sheet into individual frames
-        TextureRegion[][] tmp = TextureRegion.split(texture,
-                texture.getWidth() / FRAME_COLS,
-                texture.getHeight() / FRAME_ROWS);
+        // Take the shared frame of the sprite sheet
         // Grey door is exit
-        currentFrame = tmp[0][3];
+        currentFrame = textureManager.getFrame(texturePath, FRAME_COLS, FRAME_ROWS, 0, 3);
     }
 
     /**
@@ -55,4 +52,13 @@ public void render(SpriteBatch batch, float x, float y) {
         batch.draw(currentFrame, x, y);
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns the frame of the sprite sheet the exit is drawn with.
+     *
+     * @return The texture region of the exit.
+     */
+    @Override
+    public TextureRegion getCurrentFrame() {
+        return currentFrame;
+    }
+}
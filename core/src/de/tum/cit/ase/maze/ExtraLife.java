@@ -1,7 +1,5 @@
 package de.tum.cit.ase.maze;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
@@ -28,9 +26,7 @@ public class ExtraLife extends GameObject {
      */
     public ExtraLife(float x, float y, TextureManager textureManager) {
         super(x, y, EXTRA_LIFE_TEXTURE_PATH, textureManager);
-        Texture extraLifeSheet = new Texture(Gdx.files.internal(EXTRA_LIFE_TEXTURE_PATH));
-        TextureRegion[][] tmp = TextureRegion.split(extraLifeSheet, extraLifeSheet.getWidth() / FRAME_COLS, extraLifeSheet.getHeight() / FRAME_ROWS);
-        currentFrame = tmp[0][4]; // Assuming the extra life is at the first row and fifth column
+        currentFrame = textureManager.getFrame(EXTRA_LIFE_TEXTURE_PATH, FRAME_COLS, FRAME_ROWS, 0, 4); // Assuming the extra life is at the first row and fifth column
         boundingRectangle = new Rectangle(x, y, currentFrame.getRegionWidth(), currentFrame.getRegionHeight());
     }
 
@@ -73,5 +69,13 @@ public void render(SpriteBatch batch, float x, float y) {
         batch.draw(currentFrame, x, y);
     }
 
-
+    /**
+     * Returns the frame of the sprite sheet the extra life is drawn with.
+     *
+     * @return The texture region of the extra life.
+     */
+    @Override
+    public TextureRegion getCurrentFrame() {
+        return currentFrame;
+    }
 }
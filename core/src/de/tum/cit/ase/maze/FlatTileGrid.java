@@ -0,0 +1,71 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * A {@link TileGrid} that keeps the whole map in memory as one row-major {@code byte} array
+ * (index {@code y * width + x}), one byte per tile. Used for every map that fits into memory.
+ */
+public class FlatTileGrid implements TileGrid {
+    private final int width;
+    private final int height;
+    private final byte[] tiles;
+
+    /**
+     * Constructs a grid with a copy of the tiles of the given layout. Enemy spawns are stored as empty tiles,
+     * as enemies are not part of the grid.
+     *
+     * @param layout The map layout, it is not modified.
+     */
+    public FlatTileGrid(TileSource layout) {
+        this.width = layout.getWidth();
+        this.height = layout.getHeight();
+        if (layout instanceof MapData mapData) {
+            this.tiles = mapData.getTiles().clone();
+            for (long position : mapData.getPositions(MapData.ENEMY)) {
+                tiles[(int) position] = MapData.EMPTY;
+            }
+            return;
+        }
+        this.tiles = new byte[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                byte tileType = layout.getTile(x, y);
+                tiles[y * width + x] = tileType == MapData.ENEMY ? MapData.EMPTY : tileType;
+            }
+        }
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public byte get(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return MapData.EMPTY;
+        }
+        return tiles[y * width + x];
+    }
+
+    @Override
+    public void set(int x, int y, byte tileType) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return;
+        }
+        tiles[y * width + x] = tileType;
+    }
+
+    /**
+     * Returns the backing row-major tile array for loops that walk the grid directly.
+     *
+     * @return The tile types of the whole map.
+     */
+    public byte[] getTiles() {
+        return tiles;
+    }
+}
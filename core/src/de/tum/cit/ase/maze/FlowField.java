@@ -0,0 +1,136 @@
+package de.tum.cit.ase.maze;
+
+import java.util.Arrays;
+
+/**
+ * A flow field toward one target tile, shared by all enemies that chase the player. A breadth-first search from the
+ * target stores for every reached tile the neighbor that is one step closer to the target, so an enemy finds its
+ * next step with a single array lookup instead of its own A* search; chasing costs the same for one or many enemies.
+ * <p>
+ * The field is only computed when it is asked for a step after the target has changed tile, and it only covers the
+ * tiles at most {@link #MAX_DISTANCE} tiles away from the target on both axes, reached without leaving that square:
+ * enemies only chase a player that is a few tiles away, and the search stays small on large maps.
+ */
+public class FlowField {
+    public static final int MAX_DISTANCE = 32; // tiles from the target on each axis, tiles further away have no step
+    private static final int SIZE = 2 * MAX_DISTANCE + 1; // side of the window around the target
+    private static final int NO_STEP = -1;
+
+    private final MazeWorld world;
+    private final int[] next = new int[SIZE * SIZE]; // window index of the next step of each tile
+    private final int[] reached = new int[SIZE * SIZE]; // generation in which the tile was reached
+    private final int[] queue = new int[SIZE * SIZE];
+    private int generation;
+    private int targetX = -1, targetY = -1;
+    private boolean dirty; // the target changed since the field was computed
+
+    /**
+     * Creates an empty flow field for a world.
+     *
+     * @param world The world whose walkable tiles are searched.
+     */
+    public FlowField(MazeWorld world) {
+        this.world = world;
+    }
+
+    /**
+     * Sets the tile the field leads to. The field is computed again on the next {@link #getNextStep(int, int)} if the
+     * tile changed.
+     *
+     * @param x The x-coordinate of the target tile.
+     * @param y The y-coordinate of the target tile.
+     */
+    public void setTarget(int x, int y) {
+        if (x != targetX || y != targetY) {
+            targetX = x;
+            targetY = y;
+            dirty = true;
+        }
+    }
+
+    /**
+     * Returns the next step from a tile toward the target.
+     *
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     * @return The next tile as {@code (long) y * world.getWidth() + x}, the tile itself if it is the target, or
+     *         {@code -1} if the target cannot be reached inside the field.
+     */
+    public long getNextStep(int x, int y) {
+        if (dirty) {
+            compute();
+            dirty = false;
+        }
+        if (!isInWindow(x, y)) {
+            return NO_STEP;
+        }
+        int index = toIndex(x, y);
+        if (reached[index] != generation) {
+            return NO_STEP;
+        }
+        return toTile(next[index]);
+    }
+
+    /**
+     * Runs the breadth-first search from the target over the walkable tiles of the square around it.
+     */
+    private void compute() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            // after about two billion searches the old stamps would become valid again
+            Arrays.fill(reached, 0);
+            generation = 1;
+        }
+        if (!world.isCellfree(targetX, targetY)) {
+            return; // nothing is reached
+        }
+        int target = toIndex(targetX, targetY);
+        reached[target] = generation;
+        next[target] = target;
+        int head = 0, tail = 0;
+        queue[tail++] = target;
+        while (head < tail) {
+            int current = queue[head++];
+            int x = targetX - MAX_DISTANCE + current % SIZE;
+            int y = targetY - MAX_DISTANCE + current / SIZE;
+            // left, right, down, up
+            tail = visit(x - 1, y, current, tail);
+            tail = visit(x + 1, y, current, tail);
+            tail = visit(x, y - 1, current, tail);
+            tail = visit(x, y + 1, current, tail);
+        }
+    }
+
+    /**
+     * Adds a neighbor to the queue if it is walkable and not reached yet, with the current tile as its next step.
+     *
+     * @return The new end of the queue.
+     */
+    private int visit(int x, int y, int current, int tail) {
+        if (!isInWindow(x, y) || !world.isCellfree(x, y)) {
+            return tail;
+        }
+        int index = toIndex(x, y);
+        if (reached[index] == generation) {
+            return tail;
+        }
+        reached[index] = generation;
+        next[index] = current;
+        queue[tail] = index;
+        return tail + 1;
+    }
+
+    private boolean isInWindow(int x, int y) {
+        return Math.abs(x - targetX) <= MAX_DISTANCE && Math.abs(y - targetY) <= MAX_DISTANCE;
+    }
+
+    private int toIndex(int x, int y) {
+        return (y - targetY + MAX_DISTANCE) * SIZE + (x - targetX + MAX_DISTANCE);
+    }
+
+    private long toTile(int index) {
+        int x = targetX - MAX_DISTANCE + index % SIZE;
+        int y = targetY - MAX_DISTANCE + index / SIZE;
+        return (long) y * world.getWidth() + x;
+    }
+}
@@ -2,33 +2,34 @@
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.LongArray;
 
-import java.awt.*;
 import java.io.IOException;
-import java.util.Properties;
-import java.util.List;
-import java.util.ArrayList;
 import java.util.Random;
 
 
 /**
- * The {@code GameMap} class is responsible for managing the game's map layout, including walls, paths, entry and exit points, traps, enemies, and collectible items.
- * It loads the map configuration from a properties file and provides functionality to render the game objects, check for collisions, and manage game object interactions.
+ * The {@code GameMap} class draws a {@link MazeWorld}: the walls, paths, entry and exit points and traps from a pre-baked
+ * {@link StaticMapLayer}, and the keys, extra lives and enemies through the {@link RenderQueue}.
+ * It loads the map configuration from a level file and creates the world from it; all game logic and collision checks
+ * live in the world (see {@link #getWorld()}) and the {@link MazeSimulation}, which do not need any textures.
  */
 public class GameMap {
-    //class to hold the tiles and layout of a map
-    private GameObject[][] gameObjects;
-    private int width;
-    private int height;
+    private static final String ENEMY_TEXTURE_PATH = "mobs.png";
+    private static final byte[] PICKUP_TYPES = {MapData.KEY, MapData.EXTRA_LIFE};
+
+    private MazeWorld world;
+    //one shared game object per tile type (wall, entry, exit, trap, key, extra life) used for drawing
+    private GameObject[] tileVisuals;
+    private TextureRegion enemyFrame; // all enemies share one frame
     private Path path;
-    private MazeRunnerGame game;
-    private ExtraLife extraLife;
-    private Array<Enemy> enemies = new Array<>(); // Enemy movement
-    private Array<Point> exitPoints = new Array<>(); // ExitPoints
-    private final int TILE_SIZE = 16; // very often used for calculations
+    private StaticMapLayer staticLayer; // baked background and static tiles
+    private final int TILE_SIZE = MazeWorld.TILE_SIZE;
+    // visible tile rectangle (inclusive, clamped to the map), set by updateView()
+    private int viewMinX, viewMinY, viewMaxX = -1, viewMaxY = -1;
 
 
     /**
@@ -41,64 +42,72 @@ public GameMap(String levelFilePath, TextureManager textureManager) {
         try {
             FileHandle fileHandle = Gdx.files.internal(levelFilePath);
             loadLevel(fileHandle, textureManager);
-            placeExtraLives(textureManager);
         } catch (IOException e) {
             Gdx.app.log("Level Load Error", "Failed to load level file: " + levelFilePath, e);
         }
-        path = new Path(0, 0, "basictiles.png", textureManager);
     }
 
     /**
-     * Loads the level configuration from a properties file, creating game objects based on the file's contents.
+     * Constructs a {@code GameMap} object from an already loaded map layout and places extra lives on the map.
+     * It does not read any files and only uses textures that are already cached in the texture manager,
+     * so it can run on a background thread once those textures were loaded (see {@link LoadingScreen}).
+     *
+     * @param layout The map layout, see {@link MapLoader#loadLayout(FileHandle)}.
+     * @param textureManager The texture manager to load textures for the game objects.
+     */
+    public GameMap(TileSource layout, TextureManager textureManager) {
+        createTiles(new MazeWorld(layout, new Random()), textureManager);
+    }
+
+    /**
+     * Loads the level configuration from a level file and creates the world from it.
+     * Both .properties and binary .maze files are accepted, see {@link MapLoader#loadLayout(FileHandle)}.
      *
      * @param levelFilePath The file handle to the level configuration file.
      * @param textureManager The texture manager to load textures for the game objects.
-     * @throws IOException If there is an error reading the properties file.
+     * @throws IOException If there is an error reading the level file.
      */
     public void loadLevel(FileHandle levelFilePath, TextureManager textureManager) throws IOException {
-        Properties props = new Properties();
-        props.load(levelFilePath.reader());
-
-        //calculate map size
-        gameObjects = calculateMapSize(props);
-
-        //extract tileType values and coordinates from .properties file
-        for (String key : props.stringPropertyNames()) {
-            String[] parts = key.split(",");
-            int x = Integer.parseInt(parts[0]);
-            int y = Integer.parseInt(parts[1]);
-            int tileType = Integer.parseInt(props.getProperty(key));
-
-            //fill map with the respective tileType at the given coordinates
-            if (tileType == 0|tileType == 1|tileType == 2|tileType == 3|tileType == 5) {
-                gameObjects[x][y] = createTile(tileType, x, y, textureManager);
-            }
-            else if (tileType == 4) {
-                Enemy enemy = new Enemy(x, y, "mobs.png", textureManager);
-                enemies.add(enemy);
-            }
-        }
+        createTiles(new MazeWorld(MapLoader.loadLayout(levelFilePath), new Random()), textureManager);
     }
 
     /**
-     * Calculates the size of the map based on the properties configuration, determining the maximum width and height based on the coordinates specified in the file.
+     * Creates the shared tile visuals and the static layer of the given world.
+     * Tiles are only stored as tile types in the world, no game object is created per tile.
      *
-     * @param properties The properties loaded from the level configuration file.
-     * @return A 2D array of {@link GameObject}s representing the map layout.
+     * @param world The world to draw.
+     * @param textureManager The texture manager to load textures for the game objects.
      */
-    private GameObject[][] calculateMapSize(Properties properties) {
-        int maxX = 0;
-        int maxY = 0;
-        for (String key : properties.stringPropertyNames()) {
-            String[] parts = key.split(",");
-            int x = Integer.parseInt(parts[0]);
-            int y = Integer.parseInt(parts[1]);
-            if (x > maxX) maxX = x;
-            if (y > maxY) maxY = y;
+    private void createTiles(MazeWorld world, TextureManager textureManager) {
+        this.world = world;
+        // until the first updateView() everything counts as visible
+        viewMinX = 0;
+        viewMinY = 0;
+        viewMaxX = world.getWidth() - 1;
+        viewMaxY = world.getHeight() - 1;
+
+        tileVisuals = new GameObject[MapData.EXTRA_LIFE + 1];
+        for (byte tileType : new byte[]{MapData.WALL, MapData.ENTRY, MapData.EXIT, MapData.TRAP, MapData.KEY}) {
+            tileVisuals[tileType] = createTile(tileType, 0, 0, textureManager);
+        }
+        tileVisuals[MapData.EXTRA_LIFE] = new ExtraLife(0, 0, textureManager);
+        enemyFrame = textureManager.getFrame(ENEMY_TEXTURE_PATH, 12, 8, 5, 7); // Ghost is enemy
+
+        //the background and the static tiles are drawn from pre-baked chunks
+        path = new Path(0, 0, "basictiles.png", textureManager);
+        TextureRegion[] staticRegions = new TextureRegion[tileVisuals.length];
+        for (byte tileType : new byte[]{MapData.WALL, MapData.ENTRY, MapData.EXIT, MapData.TRAP}) {
+            staticRegions[tileType] = tileVisuals[tileType].getCurrentFrame();
         }
-        width = maxX + 1; //viewport
-        height = maxY + 1; //viewport
-        return gameObjects = new GameObject [width][height];
+        if (staticLayer != null) {
+            staticLayer.dispose();
+        }
+        staticLayer = new StaticMapLayer(world.getTiles(), path.getCurrentFrame(), staticRegions);
+        world.addTileListener((x, y, oldType, newType) -> {
+            if (staticLayer.isStatic(oldType) || staticLayer.isStatic(newType)) {
+                staticLayer.invalidate(x, y); // only the chunk of this tile is baked again
+            }
+        });
     }
 
     /**
@@ -124,310 +133,105 @@ public GameObject createTile(int tileType, float x, float y, TextureManager text
     }
 
     /**
-     * Renders the game objects on the map, including walls, paths, traps, and other elements.
+     * Works out the rectangle of tiles visible to the camera, which limits what {@link #submit(RenderQueue, float)},
+     * {@link #renderStaticLayer(Matrix4)} and {@link #isVisible(float, float)} look at. For maps that are paged in
+     * regions it also pages in the visible regions, together with the regions of the enemies around the visible area;
+     * regions that have not been used for the longest time are evicted once more than the resident budget is in memory.
+     * Should be called once per frame before rendering.
      *
-     * @param batch The {@link SpriteBatch} used for drawing.
+     * @param camera The camera the map is rendered with.
      */
-    //method for drawing the maze
-    public void render (SpriteBatch batch){
-
-        for (int y = 0; y < gameObjects.length; y++) {
-            for (int x = 0; x < gameObjects[y].length; x++) {
-                GameObject gameObject = gameObjects[x][y];
-                if (gameObject != null) {
-                    gameObject.render(batch, x * TILE_SIZE, y * TILE_SIZE);
-                }
-            }
+    public void updateView(OrthographicCamera camera) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2;
+        // one extra tile on each side for sprites that reach into the view from a neighbouring tile
+        int minX = (int) Math.floor((camera.position.x - halfWidth) / TILE_SIZE) - 1;
+        int minY = (int) Math.floor((camera.position.y - halfHeight) / TILE_SIZE) - 1;
+        int maxX = (int) Math.ceil((camera.position.x + halfWidth) / TILE_SIZE) + 1;
+        int maxY = (int) Math.ceil((camera.position.y + halfHeight) / TILE_SIZE) + 1;
+        viewMinX = Math.max(minX, 0);
+        viewMinY = Math.max(minY, 0);
+        viewMaxX = Math.min(maxX, getWidth() - 1);
+        viewMaxY = Math.min(maxY, getHeight() - 1);
+
+        TileGrid tiles = world.getTiles();
+        if (!(tiles instanceof RegionPagedWorld)) {
+            return; // the whole map is in memory
         }
-    }
-
-    /**
-     * Renders the background of the game map (path texture).
-     *
-     * @param batch The {@link SpriteBatch} used for drawing.
-     */
-    public void renderBackground(SpriteBatch batch){
-
-        for (int y = 0; y < gameObjects.length; y++) {
-            for (int x = 0; x < gameObjects[y].length; x++) {
-                path.render(batch, x * TILE_SIZE, y * TILE_SIZE); //draws the background with path texture
+        // active enemies first, so the visible regions end up as the most recently used ones
+        int margin = RegionPagedWorld.REGION_SIZE;
+        for (Enemy enemy : world.getEnemies()) {
+            int enemyX = (int) enemy.getX();
+            int enemyY = (int) enemy.getY();
+            if (enemyX >= minX - margin && enemyX <= maxX + margin && enemyY >= minY - margin && enemyY <= maxY + margin) {
+                tiles.touch(enemyX - 1, enemyY - 1, enemyX + 1, enemyY + 1);
             }
         }
+        tiles.touch(minX, minY, maxX, maxY);
     }
 
     /**
-     * Retrieves the game object located at the specified coordinates.
-     *
-     * @param x The x-coordinate of the desired location.
-     * @param y The y-coordinate of the desired location.
-     * @return The {@link GameObject} at the specified coordinates, or {@code null} if the location is empty.
-     */
-    public GameObject getGameObjectAt(int x, int y) {
-        return gameObjects[x][y];
-    }
-
-
-    /**
-     * Removes the game object located at the specified coordinates, effectively setting the tile to null.
-     *
-     * @param x The x-coordinate of the location to clear.
-     * @param y The y-coordinate of the location to clear.
-     */
-    public void removeGameObjectAt(int x, int y) {
-        gameObjects[x][y] = null;
-    }
-
-    /**
-     * Places extra life objects on the map at random locations.
-     *
-     * @param textureManager The texture manager to load textures for the extra life objects.
-     */
-    public void placeExtraLives(TextureManager textureManager) {
-        List<Point> freeTiles = new ArrayList<>();
-
-        // Iterate over the game map to find free tiles
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                // Consider a tile free if it's a Path or not initialized (null)
-                if (gameObjects[x][y] == null || gameObjects[x][y] instanceof Path) {
-                    freeTiles.add(new Point(x, y));
-                }
-            }
-        }
-
-        Random random = new Random();
-        for (int i = 0; i < 2; i++) { // Place 2 extra lives
-            if (!freeTiles.isEmpty()) {
-                int index = random.nextInt(freeTiles.size());
-                Point point = freeTiles.remove(index); // Remove to avoid placing multiple items on the same tile
-
-                // Place an ExtraLife object at the chosen free tile
-                gameObjects[point.x][point.y] = new ExtraLife(point.x, point.y, textureManager);
-            }
-        }
-    }
-
-    /**
-     * Checks if the specified cell is blocked by a non-walkable game object.
-     * This method is crucial for collision detection and movement mechanics, ensuring characters do not walk through walls or other barriers.
-     *
-     * @param x X-coordinate in the game world.
-     * @param y Y-coordinate in the game world.
-     * @return true if the cell is blocked, false otherwise.
-     */
-    //method prevent character from moving through walls
-    public boolean isCellBlocked(float x, float y){
-
-        float offsetX = (34 - TILE_SIZE) / 2f;
-        float offsetY = (32 - TILE_SIZE) / 2f;
-
-        // Calculate the offset to center the 16x16 collision box within the 34x32 sprite
-        float tileX = (x + offsetX) / TILE_SIZE;
-        float tileY = (y + offsetY) / TILE_SIZE;
-
-        //check maze bounds
-        if (tileX <= 0 || tileX >= gameObjects.length || tileY <= 0|| tileY >= gameObjects[0].length) {
-            return true;
-        }
-
-        //check for non-walkable objects
-        GameObject gameObject = gameObjects[(int)tileX][(int)tileY];
-        if(gameObject instanceof Wall || gameObject instanceof Entry){
-            return true;
-        }
-        return false;
-    }
-
-    /**
-     * Checks if the specified cell is free of any non-walkable game objects. It is used for the A* pathfinding algorithm because isCellBlocked()
-     * does not work properly in this context.
-     *
-     * @param x X-coordinate in the game object grid.
-     * @param y Y-coordinate in the game object grid.
-     * @return true if the cell is free, false otherwise.
-     */
-    public boolean isCellfree(int x, int y){
-        if (x <= 0 || x >= gameObjects.length || y <= 0|| y >= gameObjects[0].length) {
-            return false;
-        }
-        //check for non-walkable objects
-        GameObject gameObject = gameObjects[x][y];
-        if(gameObject instanceof Wall || gameObject instanceof Entry){
-            return false;
-        }
-        return true;
-    }
-
-    /**
-     * Detects collisions with trap objects at the specified game world coordinates.
-     * This method is essential for reducing the character's amount of lives when he collides with a trap.
-     *
-     * @param x The x-coordinate in the game world.
-     * @param y The y-coordinate in the game world.
-     * @return {@code true} if there is a collision with a trap at the specified coordinates, {@code false} otherwise.
-     */
-    public boolean collusionWithTrap(float x, float y){
-
-        float offsetX = (34 - TILE_SIZE) / 2f;
-        float offsetY = (32 - TILE_SIZE) / 2f;
-        int tileX = (int)((x + offsetX) / TILE_SIZE);
-        int tileY = (int)((y + offsetY) / TILE_SIZE);
-        GameObject gameObject = gameObjects[tileX][tileY];
-        if(gameObject instanceof Trap){
-            return true;
-        }
-        return false;
-    }
-
-
-    /**
-     * Detects collisions with the key object at the specified game world coordinates.
-     * This method is used to determine when the character has collected a key.
+     * Checks if a position lies in the visible tile rectangle of the last {@link #updateView(OrthographicCamera)},
+     * e.g. to skip drawing enemies outside of the screen.
      *
-     * @param x The x-coordinate in the game world.
-     * @param y The y-coordinate in the game world.
-     * @return {@code true} if there is a collision with a key at the specified coordinates, {@code false} otherwise.
+     * @param x The x-coordinate in tiles.
+     * @param y The y-coordinate in tiles.
+     * @return {@code true} if the position is visible.
      */
-    public boolean collusionWithKey(float x, float y){
-
-        float offsetX = (34 - TILE_SIZE) / 2f;
-        float offsetY = (32 - TILE_SIZE) / 2f;
-        int tileX = (int)((x + offsetX) / TILE_SIZE);
-        int tileY = (int)((y + offsetY) / TILE_SIZE);
-        GameObject gameObject = gameObjects[tileX][tileY];
-        if(gameObject instanceof Key){
-            return true;
-        }
-        return false;
+    public boolean isVisible(float x, float y) {
+        return x >= viewMinX - 1 && x <= viewMaxX + 1 && y >= viewMinY - 1 && y <= viewMaxY + 1;
     }
 
     /**
-     * Checks for collisions with the exit object at the specified game world coordinates.
-     * This function is vital for level progression, allowing the character to accomplish to a level when he reaches the exit with a key.
+     * Renders the static part of the map (path background, walls, entries, exits and traps) visible to the camera from
+     * the pre-baked chunks of the {@link StaticMapLayer}. Must be called outside of {@code SpriteBatch.begin()}/{@code end()},
+     * before the dynamic objects are drawn through {@link #submit(RenderQueue, float)}.
      *
-     * @param x The x-coordinate in the game world.
-     * @param y The y-coordinate in the game world.
-     * @return {@code true} if there is a collision with an exit at the specified coordinates, {@code false} otherwise.
+     * @param projection The projection matrix of the camera, see {@link #updateView(OrthographicCamera)}.
      */
-    public boolean collusionWithExit(float x, float y){
-
-        float offsetX = (34 - TILE_SIZE) / 2f;
-        float offsetY = (32 - TILE_SIZE) / 2f;
-        int tileX = (int)((x + offsetX) / TILE_SIZE);
-        int tileY = (int)((y + offsetY) / TILE_SIZE);
-        GameObject gameObject = gameObjects[tileX][tileY];
-        if(gameObject instanceof Exit){
-            return true;
-        }
-        return false;
+    public void renderStaticLayer(Matrix4 projection) {
+        staticLayer.render(projection, viewMinX, viewMinY, viewMaxX, viewMaxY);
     }
 
     /**
-     * Detects collisions between the character and any enemy objects in the game world.
-     * This method is crucial for implementing interactions between the player's character and enemies, such as health deduction.
+     * Adds the pickups (keys and extra lives) and the enemies that are visible to the camera to the render queue.
+     * The static tiles are drawn by {@link #renderStaticLayer(Matrix4)}.
      *
-     * @param x The x-coordinate in the game world where the character is located.
-     * @param y The y-coordinate in the game world where the character is located.
-     * @return {@code true} if the character is colliding with an enemy, {@code false} otherwise.
+     * @param queue The render queue of the world.
+     * @param alpha The interpolation factor between the last two simulation ticks, see {@link SimulationClock}.
      */
-    public boolean collusionWithEnemy(float x, float y){
-
-        float characterWidth = 8; // Width of the character's collision box
-        float characterHeight = 10; // Height of the character's collision box
-        float enemyWidth = 8; // Slightly larger width for the enemy's collision box
-        float enemyHeight = 10; // Slightly larger height for the enemy's collision box
-
-        // Adjustments to center the character's collision box
-        float characterOffsetX = (TILE_SIZE - characterWidth) / 2f;
-        float characterOffsetY = (TILE_SIZE - characterHeight) / 2f;
-
-        // Create the character's bounding box
-        Rectangle characterRect = new Rectangle(
-                x + characterOffsetX,
-                y + characterOffsetY,
-                characterWidth,
-                characterHeight
-        );
-
-        // Check each enemy for a potential collision
-        for (Enemy enemy : enemies) {
-            // Calculate the enemy's position in pixels
-            float enemyPixelX = enemy.getX() * TILE_SIZE;
-            float enemyPixelY = enemy.getY() * TILE_SIZE;
-
-            // Adjustments to center the enemy's collision box
-            float enemyOffsetX = (TILE_SIZE - enemyWidth) / 2f;
-            float enemyOffsetY = (TILE_SIZE - enemyHeight) / 2f;
-
-            // Create the enemy's bounding box
-            Rectangle enemyRect = new Rectangle(
-                    enemyPixelX + enemyOffsetX,
-                    enemyPixelY + enemyOffsetY,
-                    enemyWidth,
-                    enemyHeight
-            );
-
-            // Check for an overlap between the character's and enemy's bounding boxes
-            if (characterRect.overlaps(enemyRect)) {
-                return true; // Collision detected
-            }
-        }
-
-        return false; // No collision detected
-
-    }
-
-    /**
-     * Finds the entry point in the game map and returns its coordinates.
-     * This method is used at the start of a level to position the character at the correct starting location.
-     *
-     * @return A {@code Point} object representing the coordinates of the entry point, or {@code null} if not found.
-     */
-    public Point findEntry() {
-
-        for (int y = 0; y < gameObjects.length; y++) {
-            for (int x = 0; x < gameObjects[y].length; x++) {
-                if (gameObjects[x][y] instanceof Entry) {
-                    return new Point(x * TILE_SIZE, y * TILE_SIZE); // Point is a simple class holding x and y integers
+    //method for drawing the maze
+    public void submit(RenderQueue queue, float alpha){
+
+        for (byte tileType : PICKUP_TYPES) {
+            LongArray positions = world.getSpecialTilePositions(tileType);
+            TextureRegion frame = tileVisuals[tileType].getCurrentFrame();
+            for (int i = 0; i < positions.size; i++) {
+                int x = (int) (positions.get(i) % getWidth());
+                int y = (int) (positions.get(i) / getWidth());
+                if (x >= viewMinX && x <= viewMaxX && y >= viewMinY && y <= viewMaxY) {
+                    queue.submit(RenderQueue.LAYER_OBJECTS, frame, x * TILE_SIZE, y * TILE_SIZE);
                 }
             }
         }
-        return null; //if not found
-    }
-
-    /**
-     * Locates the key object within the game map and returns its coordinates.
-     * This is essential because collecting a key is necessary to unlock the exit.
-     *
-     * @return A {@code Point} object representing the coordinates of the key, or {@code null} if not found.
-     */
-    public Point findKey() {
-
-        for (int y = 0; y < gameObjects.length; y++) {
-            for (int x = 0; x < gameObjects[y].length; x++) {
-                if (gameObjects[x][y] instanceof Key) {
-                    return new Point(x * TILE_SIZE, y * TILE_SIZE); // Point is a simple class holding x and y integers
-                }
+        for (Enemy enemy : world.getEnemies()) {
+            if (isVisible(enemy.getX(), enemy.getY())) {
+                // only enemies on screen, between their positions of the last two ticks
+                queue.submit(RenderQueue.LAYER_ENEMIES, enemyFrame,
+                        enemy.getRenderX(alpha) * TILE_SIZE, enemy.getRenderY(alpha) * TILE_SIZE);
             }
         }
-        return null; //if not found
     }
 
     /**
-     * Removes the key object from the game map once it has been collected by the character.
-     * This method ensures that the key object is no longer rendered or interactable after collection.
+     * Returns the world this map draws, with all tiles, enemies and collision queries.
      *
-     * @param key The {@code Key} object to remove from the game map.
+     * @return The world of the map.
      */
-    public void removeKey(Key key) {
-        // Find the position of the key in the gameObjects array and set it to null
-
-        int x = (int) (key.getX() / TILE_SIZE);
-        int y = (int) (key.getY() / TILE_SIZE);
-        gameObjects[x][y] = null;
+    public MazeWorld getWorld() {
+        return world;
     }
 
-
     /**
      * Returns the width of the game map in tiles.
      *
@@ -435,7 +239,7 @@ public void removeKey(Key key) {
      */
     //viewport
     public int getWidth() {
-        return width;
+        return world.getWidth();
     }
 
     /**
@@ -444,78 +248,16 @@ public int getWidth() {
      * @return The width of the game map.
      */
     public int getHeight() {
-        return height;
-    }
-
-    /**
-     * Retrieves the list of enemies currently present in the game map.
-     * This method is crucial for game logic that involves enemy interactions, such as AI movement or combat.
-     *
-     * @return An {@code Array} of {@code Enemy} objects representing all the enemies in the game map.
-     */
-    //enemy movement
-    public Array<Enemy> getEnemies() {
-        return enemies;
-    }
-
-    /**
-     * Sets the list of enemies in the game map.
-     * This method can be used to initialize or update the enemy population within the game, affecting the game's difficulty and dynamics.
-     *
-     * @param enemies An {@code Array} of {@code Enemy} objects to be set as the current enemies in the game map.
-     */
-    public void setEnemies(Array<Enemy> enemies) {
-        this.enemies = enemies;
+        return world.getHeight();
     }
 
     /**
-     * Disposes of all resources used by the {@code GameMap}, including textures and other assets associated with game objects and enemies.
-     * This method ensures clean up and resource management, preventing memory leaks when the game map is no longer in use.
+     * Disposes of the static layer of the {@code GameMap}. The tile visuals draw regions of the shared
+     * {@link TextureManager}, so their textures are kept for the next map and disposed with the game.
      */
     public void dispose() {
-        // Dispose of textures or other disposable assets used by gameObjects
-        for (int y = 0; y < gameObjects.length; y++) {
-            for (int x = 0; x < gameObjects[y].length; x++) {
-                if (gameObjects[x][y] != null) {
-                    gameObjects[x][y].dispose();
-                }
-            }
+        if (staticLayer != null) {
+            staticLayer.dispose();
         }
-
-        // Dispose of textures or other disposable assets used by enemies
-        for (Enemy enemy : enemies) {
-            enemy.dispose();
-        }
-
-        // Dispose any other assets if necessary
     }
-
-    /**
-     * Determines the neighboring cells of a given position that are not blocked and can be moved to.
-     * This method is used for our A* pathfinding algorithm (intelligent enemy movement) that avoids obstacles.
-     *
-     * @param position The {@code Point} representing the current position for which neighbors are to be found.
-     * @return A {@code List} of {@code Point} objects representing the accessible neighboring cells.
-     */
-    public List<Point> getNeighbors(Point position) {
-        List<Point> neighbors = new ArrayList<>();
-        // Add neighbors (up, down, left, right)
-        // Check bounds and if neighbor is not blocked
-        if (position.x > 0 && isCellfree(position.x - 1, position.y)) { //left
-            neighbors.add(new Point(position.x - 1, position.y));
-        }
-        if (position.x < width - 1 && isCellfree(position.x + 1, position.y)) { //right
-            neighbors.add(new Point(position.x + 1, position.y));
-        }
-        if (position.y > 0 && isCellfree(position.x, position.y - 1)) { //up
-            neighbors.add(new Point(position.x, position.y - 1));
-        }
-        if (position.y < height - 1 && isCellfree(position.x, position.y + 1)) { //down
-            neighbors.add(new Point(position.x, position.y + 1));
-        }
-
-        return neighbors;
-    }
-
-
 }
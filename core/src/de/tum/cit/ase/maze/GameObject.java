@@ -2,6 +2,7 @@
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Represents a generic game object in the Maze Runner game. This class provides
@@ -33,7 +34,7 @@ public abstract class GameObject {
     public GameObject(float x, float y, String texturePath, TextureManager textureManager) {
         this.x = x;
         this.y = y;
-        this.texture = textureManager.getTexture(texturePath);
+        this.texture = textureManager.getRegion(texturePath).getTexture(); // the atlas page if the sheet is packed
 
     }
 
@@ -54,6 +55,15 @@ public GameObject(float x, float y, String texturePath, TextureManager textureMa
      */
     public abstract void render(SpriteBatch batch, float x, float y);
 
+    /**
+     * Returns the texture region this game object is drawn with, e.g. to bake it into a static layer.
+     *
+     * @return The texture region, or {@code null} if the object does not use a single texture region.
+     */
+    public TextureRegion getCurrentFrame() {
+        return null;
+    }
+
 
     /**
      * Disposes of the texture when it is no longer needed.
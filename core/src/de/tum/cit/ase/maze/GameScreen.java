@@ -4,12 +4,9 @@
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.utils.ScreenUtils;
-import com.badlogic.gdx.utils.viewport.ScreenViewport;
-import com.badlogic.gdx.utils.viewport.Viewport;
 
-import java.awt.*;
+import java.util.Random;
 
 /**
  * The {@code GameScreen} class handles the rendering and updating of the gameplay screen in Maze Runner.
@@ -24,51 +21,60 @@ public class GameScreen implements Screen {
     private MovementManager movementManager;
     private GameMap gameMap;
     private Hud hud;
-    private Key key;
-    private Viewport gamePort;
-    private Viewport hudPort; //new
+    private MazeSimulation simulation; // the game rules, this screen only draws them
     private TextureManager textureManager;
+    private final RenderQueue renderQueue = new RenderQueue(); // sorts the world sprites before drawing
+    private final SimulationClock clock = new SimulationClock(); // runs the game logic in fixed ticks
+    public static final String DEFAULT_MAP_PATH = "maps/level-1.properties";
 
 
     /**
      * Constructs the GameScreen with reference to the main game class for resource access.
-     * It sets up the game environment, including the map, character, HUD, and camera.
+     * It loads the map chosen in the game synchronously and sets up the game environment, including the map, character, HUD, and camera.
      *
      * @param game The main {@link MazeRunnerGame} class, providing access to shared resources.
      */
     public GameScreen(MazeRunnerGame game) {
+        this(game, new GameMap(resolveMapPath(game.getMapFilePath()), game.getTextureManager()));
+    }
+
+    /**
+     * Constructs the GameScreen for an already loaded map, see {@link LoadingScreen}.
+     * It sets up the game environment, including the character, HUD, and camera.
+     *
+     * @param game The main {@link MazeRunnerGame} class, providing access to shared resources.
+     * @param gameMap The loaded map to play on.
+     */
+    public GameScreen(MazeRunnerGame game, GameMap gameMap) {
 
         this.game = game;
         this.textureManager = game.getTextureManager();
+        this.gameMap = gameMap;
 
-        //default values
-        String mapPath = game.getMapFilePath();
-        if (mapPath != null && !mapPath.isEmpty()) {
-            gameMap = new GameMap(mapPath, textureManager);
-        } else {
-            gameMap = new GameMap("maps/level-1.properties", textureManager); //If an invalid path is chosen we want the player to start with level one
-        }
-
-
-        //find entry and key of the gameMap
-        Point entryPoint = gameMap.findEntry();
-        Point keyPoint = gameMap.findKey();
+        //the simulation places the player at the entry of the map
+        simulation = new MazeSimulation(gameMap.getWorld(), new Random());
 
         //initialize character and camera
-        character = new Character(entryPoint.x, entryPoint.y, "character.png", 5, gameMap, textureManager);
+        character = new Character(simulation.getPlayer(), "character.png", textureManager);
         hud = new Hud(game.getSpriteBatch(), character, game);
-        key = new Key(keyPoint.x, keyPoint.y,"objects.png", textureManager); // Create the Key instance
-        movementManager = new MovementManager(character, gameMap, hud, key, game);
+        hud.showMinimap(gameMap.getWorld(), simulation.getPlayer());
+        movementManager = new MovementManager(hud, game);
+        simulation.setListener(movementManager); // sounds and HUD updates
         initializeCamera();
+    }
 
-        //Viewport for viewport requirements
-        gamePort = new ScreenViewport(camera);
-        hudPort = new ScreenViewport(new OrthographicCamera());
-
-        character.setHud(hud);
-        // Get the font from the game's skin
-        BitmapFont font = game.getSkin().getFont("font");
-
+    /**
+     * Returns the map path to load for the given chosen path.
+     * If an invalid path is chosen we want the player to start with level one.
+     *
+     * @param mapPath The path chosen by the player, may be {@code null}.
+     * @return The path of the level file to load.
+     */
+    public static String resolveMapPath(String mapPath) {
+        if (mapPath != null && !mapPath.isEmpty()) {
+            return mapPath;
+        }
+        return DEFAULT_MAP_PATH;
     }
 
     /**
@@ -89,9 +95,14 @@ private void initializeCamera() {
     /**
      * Updates the camera position to follow the character while staying within the defined safe zone margins.
      * This ensures the character remains visible and centered during movement.
+     *
+     * @param delta The time in seconds since the last frame.
+     * @param alpha The interpolation factor between the last two simulation ticks.
      */
-    private void updateCameraPosition(){
-        final float LERP_FACTOR = 0.009f; //has to catch up with character speed
+    private void updateCameraPosition(float delta, float alpha){
+        final float LERP_FACTOR = 0.009f; //has to catch up with character speed, per 1/60 second
+        // same catch-up speed at every frame rate
+        float lerp = 1f - (float) Math.pow(1f - LERP_FACTOR, delta * 60f);
 
         //'safe zone' margins
         // visible in the middle 80 percent of the screen as minimum requirement
@@ -105,9 +116,9 @@ private void updateCameraPosition(){
         float bottomBoundary = camera.position.y - camera.viewportHeight * camera.zoom / 2 + safeZoneMarginY;
         float topBoundary = camera.position.y + camera.viewportHeight * camera.zoom / 2 - safeZoneMarginY;
 
-        // Character's position
-        float playerX = character.getX();
-        float playerY = character.getY();
+        // Character's position as it is drawn
+        float playerX = simulation.getPlayer().getRenderX(alpha);
+        float playerY = simulation.getPlayer().getRenderY(alpha);
 
         // Determine if the camera needs to move to keep the character in the safe zone
         float targetX = camera.position.x;
@@ -126,8 +137,8 @@ private void updateCameraPosition(){
         }
 
         // Interpolate camera position for smoother movement
-        camera.position.x += (targetX - camera.position.x) * LERP_FACTOR;
-        camera.position.y += (targetY - camera.position.y) * LERP_FACTOR;
+        camera.position.x += (targetX - camera.position.x) * lerp;
+        camera.position.y += (targetY - camera.position.y) * lerp;
 
         camera.update();
     }
@@ -135,7 +146,8 @@ private void updateCameraPosition(){
 
     /**
      * Renders the game elements including the map, character, and HUD.
-     * It also handles game logic updates and user input every frame.
+     * The game logic runs in fixed ticks of the {@link SimulationClock}, as many as the frame time allows, and the
+     * moving objects are drawn between their positions of the last two ticks.
      *
      * @param delta The time in seconds since the last render call.
      */
@@ -144,40 +156,31 @@ public void render(float delta) {
         // Check for escape key press to go back to the menu
 
         ScreenUtils.clear(0, 0, 0, 1); // Clear the screen
-        hud.stage.act(delta);
-        hud.stage.draw();
-        hud.update(delta);
 
-        // Handle user input
-        movementManager.handleInput();
-        movementManager.handleEnemyCollusion(delta);
-        movementManager.handleTrapCollusion(delta);
-        movementManager.handleExtraLifeCollision();
-
-        //cooldown
-        character.update(delta);
+        clock.advance(delta);
+        while (clock.tick()) {
+            simulate(clock.getStep());
+        }
+        float alpha = clock.getAlpha();
+        character.update(delta); // animation
 
         //viewport
-        updateCameraPosition();
+        updateCameraPosition(delta, alpha);
+        gameMap.updateView(camera); // visible tiles (and for large maps the regions around the camera)
+
+        //draw the static part of the maze from its pre-baked chunks
+        gameMap.renderStaticLayer(camera.combined);
+
+        //collect keys, extra lives, enemies and the character, sorted by layer and texture when flushed
+        gameMap.submit(renderQueue, alpha);
+        character.submit(renderQueue, alpha);
 
         // Set up and begin drawing with the sprite batch
         game.getSpriteBatch().setProjectionMatrix(camera.combined);
 
         game.getSpriteBatch().begin(); // Important to call this before drawing anything
 
-
-        //draw the maze
-        gameMap.renderBackground(game.getSpriteBatch());
-        gameMap.render(game.getSpriteBatch());
-
-
-        //enemy movement
-        for (Enemy enemy : gameMap.getEnemies()) {
-            enemy.update(delta, gameMap,character); // Update enemy position
-            enemy.render(game.getSpriteBatch()); // Render enemy
-        }
-        //draw character
-        character.render(game.getSpriteBatch());
+        renderQueue.flush(game.getSpriteBatch());
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             game.pause();
@@ -188,11 +191,19 @@ public void render(float delta) {
         }
 
         game.getSpriteBatch().end(); // Important to call this after drawing everything
-        hud.stage.act(delta);
-        hud.stage.draw();
+        hud.render(delta); // the HUD is drawn once, on top of the world
 
     }
 
+    /**
+     * Runs one simulation tick with the current keyboard input.
+     *
+     * @param step The length of the tick in seconds.
+     */
+    private void simulate(float step) {
+        simulation.step(step, movementManager.readInput());
+    }
+
     /**
      * Adjusts the camera and HUD viewports in response to the screen resizing, maintaining the game's aspect ratio.
      *
@@ -212,26 +223,13 @@ public void resize(int width, int height) {
 
     }
 
-    /**
-     * Updates the game logic based on the time elapsed since the last frame.
-     * This method is responsible for updating the HUD and handling character movement.
-     *
-     * @param dt The time in seconds since the last update.
-     */
-    public void update(float dt){
-        if(!hud.isGameOver()) {
-            hud.update(dt);
-            movementManager.handleInput();
-        }
-    }
-
     /**
      * Pauses the game, stopping character movement and the HUD timer.
      */
     @Override
     public void pause() {
         movementManager.pause();
-        hud.pauseTimer();
+        simulation.setTimerPaused(true);
     }
 
     /**
@@ -240,7 +238,8 @@ public void pause() {
     @Override
     public void resume() {
         movementManager.resume();
-        hud.resumeTimer();
+        simulation.setTimerPaused(false);
+        clock.reset(); // do not catch up on the time spent in the menu
     }
 
     /**
@@ -261,18 +260,14 @@ public void hide() {
     }
 
     /**
-     * Disposes of all the resources used by the GameScreen to free up memory.
-     * This includes textures, sounds, and any other assets specific to the GameScreen.
+     * Disposes of the resources this GameScreen owns: the HUD (with its minimap) and the static layer of the map.
+     * The textures of the character and the tiles belong to the game-wide {@link TextureManager} and stay loaded for
+     * the next level; they are disposed with the game.
      */
     @Override
     public void dispose() {
-        // Dispose assets like textures when you're done with them
-        if (character != null) character.getTexture().dispose();
-        if (key != null) key.getTexture().dispose();
         if (hud != null) hud.dispose();
         if (gameMap != null) gameMap.dispose();
-        if (textureManager != null) textureManager.dispose();
-        // Dispose other assets if necessary
     }
 
 
@@ -0,0 +1,316 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.utils.LongArray;
+
+import java.util.Arrays;
+
+/**
+ * The reusable state of a best-first search over the tiles of a {@link MazeWorld}, shared by
+ * {@link AStarPathfinding} and {@link JumpPointSearch}; subclasses only decide which tiles are expanded next in
+ * {@link #expand(int, int, int)}. The costs, parents and closed flags of the tiles are kept in {@code int} arrays
+ * indexed by the position in the searched window, and the open set is an {@link IndexedMinHeap} ordered by fCost and
+ * then by hCost. Instead of clearing the arrays, each search increments a generation counter, and an entry only
+ * counts if it was written in the current generation. Every thread keeps its own instance, so after the arrays have
+ * grown to the size of the map a search allocates nothing.
+ * <p>
+ * The searched window is the whole map, unless the map has more than {@link #FIRST_WINDOW_TILES} tiles: then the
+ * search starts in a window of {@link #FIRST_WINDOW_WIDTH} x {@link #FIRST_WINDOW_WIDTH} tiles around the start and
+ * the end, and the window is doubled until the path found in it is at least as short as any path that leaves it, so
+ * the result is the same as that of a search over the whole map. The window is bounded by {@link #MAX_WINDOW_TILES},
+ * which keeps the arrays of a thread at about 128 MB; a search that needs a larger window is handed to
+ * {@link HierarchicalPathfinding}, whose path may be a little longer than the shortest one. A smaller window can also
+ * be given explicitly, to keep a search inside one part of the map.
+ */
+abstract class GridSearch {
+    static final int FIRST_WINDOW_WIDTH = 1024;
+    static final int FIRST_WINDOW_TILES = FIRST_WINDOW_WIDTH * FIRST_WINDOW_WIDTH;
+    // 32 bytes per tile in the arrays of the search and its open set
+    static final int MAX_WINDOW_TILES = 4 * FIRST_WINDOW_TILES;
+    static final int NONE = -1; // no tile
+
+    private int[] gCost = new int[0]; // cost of reaching the tile from the start, valid once the tile was opened
+    private int[] parent = new int[0]; // window index of the tile it was reached from, NONE for the start
+    private int[] closed = new int[0]; // generation in which the tile was expanded
+    private int generation;
+    private final IndexedMinHeap openSet = new IndexedMinHeap(); // ordered by fCost, then by hCost
+    // the current search
+    protected MazeWorld world;
+    protected int endX, endY;
+    // the searched window
+    protected int originX, originY, windowWidth, windowHeight;
+
+    /**
+     * Finds the shortest path between two tiles.
+     *
+     * @param world  The world on which the pathfinding is to be performed.
+     * @param startX The x-coordinate of the start tile.
+     * @param startY The y-coordinate of the start tile.
+     * @param endX   The x-coordinate of the end tile.
+     * @param endY   The y-coordinate of the end tile.
+     * @param path   Cleared and filled with every tile of the path as {@code (long) y * world.getWidth() + x}, from the
+     *               start to the end tile, both included. Stays empty if no path is found.
+     * @return {@code true} if a path was found.
+     */
+    boolean search(MazeWorld world, int startX, int startY, int endX, int endY, LongArray path) {
+        int width = world.getWidth(), height = world.getHeight();
+        if ((long) width * height <= FIRST_WINDOW_TILES) {
+            return search(world, startX, startY, endX, endY, 0, 0, width, height, path);
+        }
+        int windowWidth = Math.min(width, Math.max(FIRST_WINDOW_WIDTH, Math.abs(endX - startX) + 1));
+        int windowHeight = Math.min(height, Math.max(FIRST_WINDOW_WIDTH, Math.abs(endY - startY) + 1));
+        if ((long) windowWidth * windowHeight > MAX_WINDOW_TILES) {
+            return HierarchicalPathfinding.findPath(world, startX, startY, endX, endY, path); // too far apart
+        }
+        while (true) {
+            // around the start and the end, moved inside the map
+            int originX = windowOrigin(startX, endX, windowWidth, width);
+            int originY = windowOrigin(startY, endY, windowHeight, height);
+            boolean found = search(world, startX, startY, endX, endY, originX, originY, windowWidth, windowHeight, path);
+            if (found && path.size - 1 <= shortestDetour(startX, startY, endX, endY,
+                    originX, originY, windowWidth, windowHeight, width, height)) {
+                return true; // no path that leaves the window can be shorter
+            }
+            if (windowWidth == width && windowHeight == height) {
+                return found; // the whole map was searched
+            }
+            // a shorter path, or the only one, may lead outside of the window
+            int grownWidth = (int) Math.min(width, 2L * windowWidth);
+            int grownHeight = (int) Math.min(height, 2L * windowHeight);
+            if ((long) grownWidth * grownHeight > MAX_WINDOW_TILES) {
+                // the window cannot grow any further, search on the clusters of the map instead
+                return HierarchicalPathfinding.findPath(world, startX, startY, endX, endY, path);
+            }
+            windowWidth = grownWidth;
+            windowHeight = grownHeight;
+        }
+    }
+
+    /**
+     * Finds the shortest path between two tiles that only leads over the tiles of a window, e.g. of one cluster of
+     * {@link ClusterGraph}.
+     *
+     * @param world        The world on which the pathfinding is to be performed.
+     * @param startX       The x-coordinate of the start tile.
+     * @param startY       The y-coordinate of the start tile.
+     * @param endX         The x-coordinate of the end tile.
+     * @param endY         The y-coordinate of the end tile.
+     * @param originX      The x-coordinate of the lower left tile of the window.
+     * @param originY      The y-coordinate of the lower left tile of the window.
+     * @param windowWidth  The width of the window.
+     * @param windowHeight The height of the window, at most {@link #MAX_WINDOW_TILES} tiles in total.
+     * @param path         Cleared and filled with every tile of the path as {@code (long) y * world.getWidth() + x},
+     *                     from the start to the end tile, both included. Stays empty if no path is found.
+     * @return {@code true} if a path was found.
+     */
+    boolean search(MazeWorld world, int startX, int startY, int endX, int endY,
+                   int originX, int originY, int windowWidth, int windowHeight, LongArray path) {
+        path.clear();
+        if (!isInside(world, startX, startY) || !isInside(world, endX, endY)) {
+            return false;
+        }
+        this.world = world;
+        this.endX = endX;
+        this.endY = endY;
+        try {
+            setWindow(originX, originY, windowWidth, windowHeight);
+            if (!isInWindow(startX, startY) || !isInWindow(endX, endY)) {
+                return false; // start or end are outside of the window
+            }
+            nextGeneration();
+            int start = toIndex(startX, startY);
+            int end = toIndex(endX, endY);
+            int startH = manhattanDistance(startX, startY);
+            gCost[start] = 0;
+            parent[start] = NONE;
+            openSet.add(start, IndexedMinHeap.key(startH, startH));
+
+            //processes tiles from the open set until it is empty (or the target is found)
+            while (!openSet.isEmpty()) {
+                int current = openSet.pop();
+                closed[current] = generation;
+
+                //if we reached the end, reconstruct the path
+                if (current == end) {
+                    reconstructPath(current, path);
+                    return true;
+                }
+                expand(current, toX(current), toY(current));
+            }
+            return false; //no path found
+        } finally {
+            this.world = null; // do not keep the map alive
+        }
+    }
+
+    /**
+     * Opens the successors of a tile that was taken from the open set, with {@link #open(int, int, int, int)}.
+     *
+     * @param current The window index of the tile.
+     * @param x       The x-coordinate of the tile.
+     * @param y       The y-coordinate of the tile.
+     */
+    protected abstract void expand(int current, int x, int y);
+
+    /**
+     * Opens a tile if it is not yet in the open set, or lowers its cost if it is reached more cheaply than before.
+     * Closed tiles are ignored.
+     *
+     * @param current The window index of the tile it is reached from.
+     * @param x       The x-coordinate of the tile, which has to be walkable and inside the window.
+     * @param y       The y-coordinate of the tile.
+     * @param g       The cost of reaching the tile through the current tile.
+     */
+    protected void open(int current, int x, int y, int g) {
+        int index = toIndex(x, y);
+        if (closed[index] == generation) {
+            return;
+        }
+        boolean isOpen = openSet.contains(index);
+        if (!isOpen || g < gCost[index]) {
+            gCost[index] = g;
+            parent[index] = current;
+            int hCost = manhattanDistance(x, y);
+            long key = IndexedMinHeap.key(g + hCost, hCost);
+            if (isOpen) {
+                openSet.decreaseKey(index, key);
+            } else {
+                openSet.add(index, key);
+            }
+        }
+    }
+
+    /**
+     * @param index The window index of an opened tile.
+     * @return The cost of reaching the tile from the start.
+     */
+    protected int getGCost(int index) {
+        return gCost[index];
+    }
+
+    /**
+     * @param index The window index of an opened tile.
+     * @return The window index of the tile it was reached from, or {@link #NONE} for the start.
+     */
+    protected int getParent(int index) {
+        return parent[index];
+    }
+
+    /**
+     * Returns whether a tile is inside the searched window and walkable.
+     */
+    protected boolean isFree(int x, int y) {
+        return isInWindow(x, y) && world.isCellfree(x, y);
+    }
+
+    protected boolean isInWindow(int x, int y) {
+        return x >= originX && x < originX + windowWidth && y >= originY && y < originY + windowHeight;
+    }
+
+    protected int toIndex(int x, int y) {
+        return (y - originY) * windowWidth + (x - originX);
+    }
+
+    protected int toX(int index) {
+        return originX + index % windowWidth;
+    }
+
+    protected int toY(int index) {
+        return originY + index / windowWidth;
+    }
+
+    /**
+     * Writes the path from the start to the given tile into the path, as tile indices of the map. Consecutive tiles
+     * of the search may be further apart than one step (jump points), so the tiles between them are filled in.
+     */
+    private void reconstructPath(int end, LongArray path) {
+        //follow the parents from the target back to the start, then turn the path around
+        long mapWidth = world.getWidth();
+        int x = toX(end), y = toY(end);
+        path.add(y * mapWidth + x);
+        for (int current = parent[end]; current != NONE; current = parent[current]) {
+            int parentX = toX(current), parentY = toY(current);
+            while (x != parentX || y != parentY) {
+                // parents are always in the same row or column
+                x += Integer.signum(parentX - x);
+                y += Integer.signum(parentY - y);
+                path.add(y * mapWidth + x);
+            }
+        }
+        path.reverse();
+    }
+
+    /**
+     * Sets the searched window and makes sure the arrays are large enough for it.
+     */
+    private void setWindow(int originX, int originY, int windowWidth, int windowHeight) {
+        this.originX = originX;
+        this.originY = originY;
+        this.windowWidth = windowWidth;
+        this.windowHeight = windowHeight;
+        int tiles = windowWidth * windowHeight;
+        if (gCost.length < tiles) {
+            gCost = new int[tiles];
+            parent = new int[tiles];
+            closed = new int[tiles];
+            generation = 0; // the new arrays are filled with generation 0
+        }
+        openSet.clear(tiles);
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            // after about two billion searches the old stamps would become valid again
+            Arrays.fill(closed, 0);
+            generation = 1;
+        }
+    }
+
+    /**
+     * Calculates the Manhattan distance from a tile to the end tile. The Manhattan distance is the sum of the
+     * absolute differences of their Cartesian coordinates. It is used as the heuristic of the search.
+     */
+    private int manhattanDistance(int x, int y) {
+        return Math.abs(x - endX) + Math.abs(y - endY);
+    }
+
+    /**
+     * Returns the origin of a window on one axis that holds the start and the end, with the free space split evenly
+     * on both sides, but not beyond the edges of the map.
+     */
+    private static int windowOrigin(int start, int end, int windowSize, int mapSize) {
+        int origin = Math.min(start, end) - (windowSize - 1 - Math.abs(end - start)) / 2;
+        return Math.max(0, Math.min(mapSize - windowSize, origin));
+    }
+
+    /**
+     * Calculates a lower bound of the length of any path from the start to the end that leaves the window: the
+     * Manhattan distance plus the way to the closest tile outside the window and back.
+     *
+     * @return The lower bound, or {@link Long#MAX_VALUE} if the window covers the whole map.
+     */
+    private static long shortestDetour(int startX, int startY, int endX, int endY, int originX, int originY,
+                                       int windowWidth, int windowHeight, int mapWidth, int mapHeight) {
+        long detour = Long.MAX_VALUE;
+        if (originX > 0) {
+            detour = Math.min(detour, Math.min(startX, endX) - originX + 1);
+        }
+        if (originX + windowWidth < mapWidth) {
+            detour = Math.min(detour, originX + windowWidth - Math.max(startX, endX));
+        }
+        if (originY > 0) {
+            detour = Math.min(detour, Math.min(startY, endY) - originY + 1);
+        }
+        if (originY + windowHeight < mapHeight) {
+            detour = Math.min(detour, originY + windowHeight - Math.max(startY, endY));
+        }
+        if (detour == Long.MAX_VALUE) {
+            return detour;
+        }
+        return Math.abs(endX - startX) + Math.abs(endY - startY) + 2 * detour;
+    }
+
+    private static boolean isInside(MazeWorld world, int x, int y) {
+        return x >= 0 && x < world.getWidth() && y >= 0 && y < world.getHeight();
+    }
+}
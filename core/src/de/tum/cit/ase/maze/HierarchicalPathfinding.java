@@ -0,0 +1,366 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.utils.LongArray;
+
+import java.util.Arrays;
+
+/**
+ * Finds paths with hierarchical pathfinding (HPA*). The map is split into the clusters of its {@link ClusterGraph},
+ * whose entrance nodes and distances are precomputed once per map. A search connects the start and the end to the
+ * nodes of their clusters with one breadth-first search inside each of the two clusters, and then runs A* on the
+ * nodes only, which are far fewer than the tiles, estimating the remaining distance from the landmarks of the graph.
+ * The result is a route of waypoints: consecutive waypoints are
+ * either neighbors or in the same cluster, so each leg can be refined into tiles on its own with a search inside one
+ * cluster, see {@link #refineLeg(MazeWorld, long, long, LongArray)}. Callers that only need the next steps, e.g. a
+ * character that searches again after a few tiles anyway, only refine the first leg.
+ * <p>
+ * The paths are nearly, but not always exactly as short as those of {@link AStarPathfinding}, because they pass the
+ * cluster borders at the entrance nodes. The tile searches hand a search over to this class when it would need a
+ * larger window than {@link GridSearch#MAX_WINDOW_TILES}.
+ */
+public class HierarchicalPathfinding {
+    private static final ThreadLocal<SearchContext> CONTEXTS = ThreadLocal.withInitial(SearchContext::new);
+
+    /**
+     * Finds a path between two tiles and refines every leg of it.
+     *
+     * @param world  The world on which the pathfinding is to be performed.
+     * @param startX The x-coordinate of the start tile.
+     * @param startY The y-coordinate of the start tile.
+     * @param endX   The x-coordinate of the end tile.
+     * @param endY   The y-coordinate of the end tile.
+     * @param path   Cleared and filled with every tile of the path as {@code (long) y * world.getWidth() + x}, from the
+     *               start to the end tile, both included. Stays empty if no path is found.
+     * @return {@code true} if a path was found.
+     */
+    public static boolean findPath(MazeWorld world, int startX, int startY, int endX, int endY, LongArray path) {
+        path.clear();
+        SearchContext context = CONTEXTS.get();
+        LongArray route = context.route;
+        if (!findRoute(world, startX, startY, endX, endY, route)) {
+            return false;
+        }
+        path.add(route.first());
+        LongArray leg = context.leg;
+        for (int i = 1; i < route.size; i++) {
+            if (!refineLeg(world, route.get(i - 1), route.get(i), leg)) {
+                path.clear();
+                return false;
+            }
+            path.addAll(leg, 1, leg.size - 1); // the first tile is the end of the previous leg
+        }
+        return true;
+    }
+
+    /**
+     * Finds the route between two tiles on the cluster graph of the world, without refining it.
+     *
+     * @param world  The world on which the pathfinding is to be performed.
+     * @param startX The x-coordinate of the start tile.
+     * @param startY The y-coordinate of the start tile.
+     * @param endX   The x-coordinate of the end tile.
+     * @param endY   The y-coordinate of the end tile.
+     * @param route  Cleared and filled with the waypoints as {@code (long) y * world.getWidth() + x}: the start tile,
+     *               the entrance nodes passed and the end tile. Stays empty if no path is found.
+     * @return {@code true} if a path was found.
+     */
+    public static boolean findRoute(MazeWorld world, int startX, int startY, int endX, int endY, LongArray route) {
+        return CONTEXTS.get().search(world, startX, startY, endX, endY, route);
+    }
+
+    /**
+     * Refines one leg of a route from {@link #findRoute(MazeWorld, int, int, int, int, LongArray)} into tiles.
+     *
+     * @param world The world the route was found on.
+     * @param from  The waypoint the leg starts at.
+     * @param to    The next waypoint.
+     * @param path  Cleared and filled with every tile of the leg as {@code (long) y * world.getWidth() + x}, both
+     *              waypoints included. Stays empty if the waypoints are not connected (any more).
+     * @return {@code true} if the leg could be refined.
+     */
+    public static boolean refineLeg(MazeWorld world, long from, long to, LongArray path) {
+        int width = world.getWidth();
+        int fromX = (int) (from % width), fromY = (int) (from / width);
+        int toX = (int) (to % width), toY = (int) (to / width);
+        if (Math.abs(toX - fromX) + Math.abs(toY - fromY) <= 1) {
+            // the same tile, or a step across a border
+            path.clear();
+            path.add(from);
+            if (to != from) {
+                path.add(to);
+            }
+            return true;
+        }
+        // the leg stays inside the cluster of both waypoints
+        int areaX = fromX - fromX % ClusterGraph.CLUSTER_SIZE, areaY = fromY - fromY % ClusterGraph.CLUSTER_SIZE;
+        return AStarPathfinding.findPathInArea(world, fromX, fromY, toX, toY, areaX, areaY,
+                Math.min(ClusterGraph.CLUSTER_SIZE, width - areaX),
+                Math.min(ClusterGraph.CLUSTER_SIZE, world.getHeight() - areaY), path);
+    }
+
+    /**
+     * A* on the nodes of a cluster graph, plus a node for the start and one for the end. Like {@link GridSearch},
+     * the arrays are reused and reset with a generation counter.
+     */
+    private static class SearchContext {
+        private static final int NONE = -1;
+        private static final int TILES = ClusterGraph.CLUSTER_SIZE * ClusterGraph.CLUSTER_SIZE;
+
+        private int[] gCost = new int[0];
+        private int[] parent = new int[0];
+        private int[] closed = new int[0];
+        private int[] hCost = new int[0];
+        private int generation;
+        private final IndexedMinHeap openSet = new IndexedMinHeap(); // ordered by fCost, then by hCost
+        // distances inside the clusters of the start and the end
+        private final boolean[] free = new boolean[TILES];
+        private final int[] queue = new int[TILES];
+        private final int[] tileDistances = new int[TILES];
+        private final int[] startDistances = new int[ClusterGraph.MAX_NODES]; // from the start to its cluster's nodes
+        private final int[] endDistances = new int[ClusterGraph.MAX_NODES]; // from the end to its cluster's nodes
+        private int directDistance; // from the start to the end inside their cluster
+        private final int[] endLandmarkDistances = new int[ClusterGraph.LANDMARKS]; // from each landmark to the end
+        private final int[] targets = new int[ClusterGraph.MAX_EDGES];
+        private final int[] costs = new int[ClusterGraph.MAX_EDGES];
+        private final LongArray route = new LongArray();
+        private final LongArray leg = new LongArray();
+        private final LongArray candidate = new LongArray(); // route from a neighbor of a blocked start
+        // the current search
+        private ClusterGraph graph;
+        private int width;
+        private long startTile, endTile;
+        private int endX, endY;
+        private int startCluster, endCluster;
+        private int startNode, endNode; // ids after the ones of the graph
+
+        boolean search(MazeWorld world, int startX, int startY, int endX, int endY, LongArray route) {
+            route.clear();
+            width = world.getWidth();
+            if (!isInside(world, startX, startY) || !isInside(world, endX, endY)) {
+                return false;
+            }
+            if (startX == endX && startY == endY) {
+                route.add((long) startY * width + startX);
+                return true;
+            }
+            if (!world.isCellfree(endX, endY)) {
+                return false; // like the tile searches, never walk onto a blocked end tile
+            }
+            this.endX = endX;
+            this.endY = endY;
+            endTile = (long) endY * width + endX;
+            graph = world.getClusterGraph();
+            try {
+                if (world.isCellfree(startX, startY)) {
+                    return searchFrom(startX, startY, route) != ClusterGraph.UNREACHABLE;
+                }
+                // a blocked start, e.g. the entry, may only be left into another cluster, which its own cluster
+                // does not know about: leave it to each walkable neighbor and keep the shortest route
+                int shortest = ClusterGraph.UNREACHABLE;
+                for (int i = 0; i < 4; i++) {
+                    int x = startX + (i == 0 ? -1 : i == 1 ? 1 : 0), y = startY + (i == 2 ? -1 : i == 3 ? 1 : 0);
+                    if (world.isCellfree(x, y)) {
+                        int length = searchFrom(x, y, candidate);
+                        if (length < shortest) {
+                            shortest = length;
+                            route.clear();
+                            route.add((long) startY * width + startX);
+                            route.addAll(candidate);
+                        }
+                    }
+                }
+                return shortest != ClusterGraph.UNREACHABLE;
+            } finally {
+                graph = null; // do not keep the map alive
+            }
+        }
+
+        /**
+         * Runs A* on the nodes from a walkable start tile to the end tile.
+         *
+         * @return The length of the route, or {@link ClusterGraph#UNREACHABLE} if there is none.
+         */
+        private int searchFrom(int startX, int startY, LongArray route) {
+            route.clear();
+            startTile = (long) startY * width + startX;
+            if (startTile == endTile) {
+                route.add(startTile);
+                return 0;
+            }
+            startCluster = graph.getCluster(startX, startY);
+            endCluster = graph.getCluster(endX, endY);
+            graph.measureDistances(startX, startY, free, queue, tileDistances);
+            collectNodeDistances(startCluster, startDistances);
+            directDistance = startCluster == endCluster
+                    ? tileDistances[ClusterGraph.toClusterTile(endX, endY)] : ClusterGraph.UNREACHABLE;
+            graph.measureDistances(endX, endY, free, queue, tileDistances);
+            collectNodeDistances(endCluster, endDistances);
+            measureEndLandmarkDistances();
+
+            startNode = graph.getNodeIdCount();
+            endNode = startNode + 1;
+            reset(endNode + 1);
+            int startH = manhattanDistance(startTile);
+            gCost[startNode] = 0;
+            parent[startNode] = NONE;
+            openSet.add(startNode, IndexedMinHeap.key(startH, startH));
+            while (!openSet.isEmpty()) {
+                int current = openSet.pop();
+                closed[current] = generation;
+                if (current == endNode) {
+                    reconstructRoute(route);
+                    return gCost[endNode];
+                }
+                expand(current);
+            }
+            return ClusterGraph.UNREACHABLE; //no path found
+        }
+
+        /**
+         * Copies the measured distances to the nodes of a cluster.
+         */
+        private void collectNodeDistances(int cluster, int[] nodeDistances) {
+            int first = graph.getFirstNode(cluster);
+            for (int i = 0; i < graph.getNodeCount(cluster); i++) {
+                long tile = graph.getNodeTile(first + i);
+                int x = (int) (tile % width), y = (int) (tile / width);
+                nodeDistances[i] = tileDistances[ClusterGraph.toClusterTile(x, y)];
+            }
+        }
+
+        /**
+         * The end is connected to the graph through the nodes of its cluster, so its distance from a landmark is the
+         * shortest one over these nodes.
+         */
+        private void measureEndLandmarkDistances() {
+            int first = graph.getFirstNode(endCluster);
+            for (int landmark = 0; landmark < graph.getLandmarkCount(); landmark++) {
+                int shortest = ClusterGraph.UNREACHABLE;
+                for (int i = 0; i < graph.getNodeCount(endCluster); i++) {
+                    int distance = graph.getLandmarkDistance(landmark, first + i);
+                    if (distance != ClusterGraph.UNREACHABLE && endDistances[i] != ClusterGraph.UNREACHABLE) {
+                        shortest = Math.min(shortest, distance + endDistances[i]);
+                    }
+                }
+                endLandmarkDistances[landmark] = shortest;
+            }
+        }
+
+        private void expand(int current) {
+            int g = gCost[current];
+            if (current == startNode) {
+                openAll(startCluster, startDistances, g);
+                if (directDistance != ClusterGraph.UNREACHABLE) {
+                    open(current, endNode, g + directDistance);
+                }
+                return;
+            }
+            int count = graph.getEdges(current, targets, costs);
+            for (int i = 0; i < count; i++) {
+                open(current, targets[i], g + costs[i]);
+            }
+            int cluster = graph.getNodeCluster(current);
+            int from = current - graph.getFirstNode(cluster);
+            if (cluster == endCluster && endDistances[from] != ClusterGraph.UNREACHABLE) {
+                open(current, endNode, g + endDistances[from]);
+            }
+        }
+
+        private void openAll(int cluster, int[] nodeDistances, int g) {
+            int first = graph.getFirstNode(cluster);
+            for (int i = 0; i < graph.getNodeCount(cluster); i++) {
+                if (nodeDistances[i] != ClusterGraph.UNREACHABLE) {
+                    open(startNode, first + i, g + nodeDistances[i]);
+                }
+            }
+        }
+
+        private void open(int current, int node, int g) {
+            if (closed[node] == generation) {
+                return;
+            }
+            boolean isOpen = openSet.contains(node);
+            if (!isOpen || g < gCost[node]) {
+                gCost[node] = g;
+                parent[node] = current;
+                if (!isOpen) {
+                    hCost[node] = estimateDistance(node); // the same for the whole search
+                }
+                long key = IndexedMinHeap.key(g + hCost[node], hCost[node]);
+                if (isOpen) {
+                    openSet.decreaseKey(node, key);
+                } else {
+                    openSet.add(node, key);
+                }
+            }
+        }
+
+        /**
+         * Writes the tiles of the nodes from the start to the end into the route, skipping repeated tiles (the start
+         * or the end may lie on a node).
+         */
+        private void reconstructRoute(LongArray route) {
+            for (int node = endNode; node != NONE; node = parent[node]) {
+                long tile = getTile(node);
+                if (route.isEmpty() || route.peek() != tile) {
+                    route.add(tile);
+                }
+            }
+            route.reverse();
+        }
+
+        private long getTile(int node) {
+            if (node == startNode) {
+                return startTile;
+            }
+            return node == endNode ? endTile : graph.getNodeTile(node);
+        }
+
+        /**
+         * Estimates the distance from a node to the end without overestimating it: the Manhattan distance, or the
+         * difference of the distances of the node and the end from a landmark if that is larger.
+         */
+        private int estimateDistance(int node) {
+            int estimate = manhattanDistance(getTile(node));
+            if (node == startNode || node == endNode) {
+                return estimate;
+            }
+            for (int landmark = 0; landmark < graph.getLandmarkCount(); landmark++) {
+                int distance = graph.getLandmarkDistance(landmark, node);
+                int endDistance = endLandmarkDistances[landmark];
+                if (distance != ClusterGraph.UNREACHABLE && endDistance != ClusterGraph.UNREACHABLE) {
+                    estimate = Math.max(estimate, Math.abs(endDistance - distance));
+                }
+            }
+            return estimate;
+        }
+
+        private int manhattanDistance(long tile) {
+            return Math.abs((int) (tile % width) - endX) + Math.abs((int) (tile / width) - endY);
+        }
+
+        /**
+         * Makes sure the arrays are large enough for the ids and starts a new generation.
+         */
+        private void reset(int ids) {
+            if (gCost.length < ids) {
+                int length = Math.max(ids, gCost.length * 2);
+                gCost = new int[length];
+                parent = new int[length];
+                closed = new int[length];
+                hCost = new int[length];
+                generation = 0; // the new arrays are filled with generation 0
+            }
+            generation++;
+            if (generation == Integer.MAX_VALUE) {
+                Arrays.fill(closed, 0);
+                generation = 1;
+            }
+            openSet.clear(ids);
+        }
+
+        private static boolean isInside(MazeWorld world, int x, int y) {
+            return x >= 0 && x < world.getWidth() && y >= 0 && y < world.getHeight();
+        }
+    }
+}
@@ -16,21 +16,22 @@
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
-
-import static com.badlogic.gdx.Gdx.files;
+import com.badlogic.gdx.utils.StringBuilder;
 
 /**
  * The {@code Hud} class represents the heads-up display (HUD) of the game,
  * which includes information such as the timer, character lives, the collected key and game state indicators like game over or win screens.
  * It manages the on-screen stage and its visual elements to provide feedback to the player about their progress and status.
+ * All actors are created once; changes of the lives, the timer or the key only mark the HUD as dirty, and the actors are
+ * updated once before the stage is drawn, so the HUD does not create garbage while the game is running.
  */
 
 public class Hud {
     public Stage stage;
     private Viewport viewport;
-    private Integer worldTimer;
-    private float timeCount;
-    private Integer score;
+    private static final int MAX_HEARTS = 5;
+    private int worldTimer;
+    private int score;
     private boolean isGameOver;
     private Table gameOverTable;
     private Label gameOverLabel;
@@ -40,15 +41,20 @@ public class Hud {
     private Label winLabel;
     private TextureRegion fullHeart;
     private TextureRegion emptyHeart;
-    private Texture objectsTexture;
     private Table table;
     private Table heartTable;
-    private boolean isTimerPaused;
+    private Image[] heartImages = new Image[MAX_HEARTS]; // created once, only their drawable changes
+    private Drawable fullHeartDrawable;
+    private Drawable emptyHeartDrawable;
+    private int displayedHealth = -1; // number of full hearts currently shown
+    private final StringBuilder timerText = new StringBuilder(3); // reused for the countdown digits
+    private boolean dirty = true; // lives, timer or key changed since the actors were last updated
     private boolean gameOverSoundPlayed = false;
     private MazeRunnerGame game;
     private Image keyImage; // Image for the collected key
     private TextureRegion keyGraphic; // Texture for the key graphic
     private Image blackBar;
+    private Minimap minimap; // overview of the whole maze, null until showMinimap() is called
 
     Label countdownLabel;
     Label scoreLabel;
@@ -71,9 +77,8 @@ public class Hud {
      */
 
     public Hud(SpriteBatch sb, Character character, MazeRunnerGame game) {
-        worldTimer = 200;
-        timeCount = 0;
-        score = 5;
+        worldTimer = MazeSimulation.TIME_LIMIT;
+        score = Player.MAX_LIVES;
         viewport = new ScreenViewport(new OrthographicCamera());
         stage = new Stage(viewport, sb);
         isGameOver = false;
@@ -97,16 +102,24 @@ public Hud(SpriteBatch sb, Character character, MazeRunnerGame game) {
         blackBar.setPosition(0, stage.getHeight() - 50); // Position at the top of the stage
         blackBar.setColor(1, 1, 1, 0.8f);
 
-        objectsTexture = new Texture(files.internal("assets/objects.png"));
+        // the objects sheet on the shared atlas page, loaded once by the texture manager
+        TextureRegion objects = game.getTextureManager().getRegion("objects.png");
 
         // Assign heart graphics
-        fullHeart = new TextureRegion(objectsTexture, 64, 0, 16, 16);
-        emptyHeart = new TextureRegion(objectsTexture, 128, 0, 16, 16);
+        fullHeart = new TextureRegion(objects, 64, 0, 16, 16);
+        emptyHeart = new TextureRegion(objects, 128, 0, 16, 16);
 
-        // Create heartTable to display health score of character
+        // Create heartTable to display health score of character, the heart images are only created once
         heartTable = new Table();
         heartTable.center().top(); // Position the heart table at the top center
         heartTable.setFillParent(true);
+        fullHeartDrawable = new TextureRegionDrawable(fullHeart);
+        emptyHeartDrawable = new TextureRegionDrawable(emptyHeart);
+        for (int i = 0; i < MAX_HEARTS; i++) {
+            heartImages[i] = new Image(fullHeartDrawable);
+            heartImages[i].setScale(2.2f);
+            heartTable.add(heartImages[i]).padTop(25).padRight(5);
+        }
         updateHearts(score);
 
         BitmapFont font = new BitmapFont();
@@ -117,7 +130,7 @@ public Hud(SpriteBatch sb, Character character, MazeRunnerGame game) {
 
         // Create the time Label, countdown Label and score Label with custom style
         timeLabel = new Label(" TIME ", labelStyle);
-        countdownLabel = new Label(String.format("%03d", worldTimer), labelStyle);
+        countdownLabel = new Label(formatTimer(worldTimer), labelStyle);
         scoreLabel = new Label(String.format("%02d", score), labelStyle);
 
 
@@ -167,7 +180,7 @@ public Hud(SpriteBatch sb, Character character, MazeRunnerGame game) {
         winTable.setVisible(false); // Initially hidden
 
         //key is nine (looks a bit like a key)
-        keyGraphic = new TextureRegion(objectsTexture, 80, 256, 16, 16);
+        keyGraphic = new TextureRegion(objects, 80, 256, 16, 16);
         // Initialize the key image but keep it hidden initially
         keyImage = new Image(keyGraphic);
         keyImage.setVisible(false);
@@ -184,44 +197,66 @@ public Hud(SpriteBatch sb, Character character, MazeRunnerGame game) {
     }
 
     /**
-     * Pauses the countdown timer of the HUD.
+     * Adds the minimap of the given world to the lower right corner of the HUD. Its texture is generated once here.
+     *
+     * @param world  the world to show
+     * @param player the player, shown as a marker on the minimap
      */
-    public void pauseTimer(){
-        isTimerPaused = true;
+    public void showMinimap(MazeWorld world, Player player) {
+        if (minimap != null) {
+            minimap.remove();
+            minimap.dispose();
+        }
+        minimap = new Minimap(world, player);
+        stage.getRoot().addActorBefore(gameOverTable, minimap); // below the game over and win screens
+        updatePositions();
     }
 
     /**
-     * Resumes the countdown timer of the HUD.
+     * Sets the remaining time shown by the countdown. The timer itself runs in the {@link MazeSimulation}.
+     *
+     * @param secondsLeft the remaining seconds
      */
-    public void resumeTimer(){
-        isTimerPaused = false;
+    public void setTime(int secondsLeft) {
+        if (worldTimer != secondsLeft) {
+            worldTimer = secondsLeft;
+            dirty = true; // the label is updated before the next draw
+        }
     }
 
     /**
-     * Updates the HUD's timer and checks for game over conditions. If the timer reaches 0 for example the gameOver screen will be shown.
-     * This method should be called every frame to ensure the HUD reflects the current game state.
+     * Updates the actors if the state changed since the last frame and draws the HUD. Should be called once per frame,
+     * after the world has been drawn.
      *
-     * @param dt the time in seconds since the last frame
+     * @param delta the time in seconds since the last frame
      */
-    public void update(float dt) {
-        if (!isGameOver && !isTimerPaused) {
-            timeCount += dt;
-            if (timeCount >= 1) {
-                worldTimer--;
-                countdownLabel.setText(String.format("%03d", worldTimer));
-                timeCount = 0;
-
-                if (worldTimer <= 0) {
-                    isGameOver = true;
-                    showGameOverScreen();
-                }
-            }
+    public void render(float delta) {
+        if (dirty) {
+            countdownLabel.setText(formatTimer(worldTimer));
+            updateHearts(score);
+            dirty = false;
         }
+        stage.act(delta);
+        stage.draw();
+    }
 
+    /**
+     * Writes the timer as three digits into the reused text buffer, without creating a new string.
+     *
+     * @param seconds the remaining seconds
+     * @return the text buffer holding the digits
+     */
+    private StringBuilder formatTimer(int seconds) {
+        seconds = Math.max(0, Math.min(seconds, 999));
+        timerText.setLength(0);
+        timerText.append((char) ('0' + seconds / 100));
+        timerText.append((char) ('0' + seconds / 10 % 10));
+        timerText.append((char) ('0' + seconds % 10));
+        return timerText;
     }
 
     /**
-     * Displays the game over screen, stops the timer, and plays the game over sound.
+     * Displays the game over screen and plays the game over sound.
      */
     public void showGameOverScreen() {
         if (!gameOverSoundPlayed) {
@@ -232,11 +267,10 @@ public void showGameOverScreen() {
         gameOverTable.setVisible(true);
     }
     /**
-     * Displays the win screen, stops the background music, pauses the timer, and plays the win music.
+     * Displays the win screen, stops the background music and plays the win music.
      */
     public void showWinScreen() {
         game.stopBackgroundMusic();
-        isTimerPaused = true;
         game.playWinMusic();
         winTable.setVisible(true);
     }
@@ -245,7 +279,10 @@ public void showWinScreen() {
      * Updates the HUD to show that the key has been collected by the player.
      */
     public void showKeyCollected() {
-        keyImage.setVisible(true);
+        if (!keyImage.isVisible()) {
+            keyImage.setVisible(true);
+            dirty = true;
+        }
     }
 
     /**
@@ -255,30 +292,28 @@ public void showKeyCollected() {
      * @return the updated score value
      */
     public int setScore(int newScore) {
-        score = newScore;
-        updateHearts(score); // Update hearts display whenever the score changes
+        if (score != newScore) {
+            score = newScore;
+            dirty = true; // the hearts are updated before the next draw
+        }
         return newScore;
     }
 
     /**
-     * Updates the heart display in the HUD based on the current health value.
+     * Updates the heart display in the HUD based on the current health value. Only the drawables of the existing
+     * heart images are swapped, and only if the number of full hearts changed.
      *
      * @param health the current health value to display
      */
     public void updateHearts(int health) {
-        heartTable.clear();
-        int displayedHealth = Math.min(health, 5);
-        for (int i = 0; i < displayedHealth; i++) {
-            Image fullHeartImage = new Image(fullHeart);
-            fullHeartImage.setScale(2.2f);
-            heartTable.add(fullHeartImage).padTop(25).padRight(5);
+        int fullHearts = Math.max(0, Math.min(health, MAX_HEARTS));
+        if (fullHearts == displayedHealth) {
+            return;
         }
-        for (int i = displayedHealth; i < 5; i++) {
-            Image emptyHeartImage = new Image(emptyHeart);
-            emptyHeartImage.setScale(2.2f);
-            heartTable.add(emptyHeartImage).padTop(25).padRight(5);
+        for (int i = 0; i < MAX_HEARTS; i++) {
+            heartImages[i].setDrawable(i < fullHearts ? fullHeartDrawable : emptyHeartDrawable);
         }
-        stage.draw();
+        displayedHealth = fullHearts;
     }
 
     /**
@@ -294,7 +329,9 @@ public boolean isGameOver(){
      * Disposes of all assets used by the HUD to free up resources.
      */
     public void dispose() {
-        objectsTexture.dispose();
+        if (minimap != null) {
+            minimap.dispose();
+        }
         stage.dispose();}
 
     /**
@@ -316,6 +353,10 @@ public void updatePositions() {
         blackBar.setPosition(0, stage.getHeight() - 50);
         // Adjust the position of the key image
         keyImage.setPosition(10, stage.getHeight() - keyImage.getHeight() - 20);
+        // Keep the minimap in the lower right corner
+        if (minimap != null) {
+            minimap.setPosition(stage.getWidth() - minimap.getWidth() - 10, 10);
+        }
     }
 
     /**
@@ -323,7 +364,7 @@ public void updatePositions() {
      *
      * @return the current score
      */
-    public Integer getScore() {
+    public int getScore() {
         return score;
     }
 }
\ No newline at end of file
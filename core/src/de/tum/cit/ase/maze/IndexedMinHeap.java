@@ -0,0 +1,151 @@
+package de.tum.cit.ase.maze;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of integer ids (e.g. tile indices) with a {@code long} key per id. Every id is at most once in the
+ * heap, and the heap remembers the slot of each id, so membership tests are O(1) and the key of an id can be lowered
+ * in O(log n) with {@link #decreaseKey(int, long)} instead of adding the id a second time.
+ * <p>
+ * The slots are stored in arrays indexed by id. {@link #clear(int)} does not clear them, it starts a new generation;
+ * a slot only counts if it was written in the current generation. Once the arrays are large enough, the heap
+ * allocates nothing.
+ */
+public class IndexedMinHeap {
+    private int[] heap = new int[64]; // ids, ordered by their keys
+    private int size;
+    private long[] keys = new long[0]; // key of each id
+    private int[] slots = new int[0]; // position of each id in the heap, -1 after it was removed
+    private int[] generations = new int[0]; // generation in which the slot of each id was written
+    private int generation;
+
+    /**
+     * Combines a primary and a secondary cost into one key: keys are ordered by the primary cost, and by the
+     * secondary cost if the primary costs are equal.
+     *
+     * @param primary   The primary cost, not negative.
+     * @param secondary The secondary cost, not negative.
+     * @return The key.
+     */
+    public static long key(int primary, int secondary) {
+        return ((long) primary << 32) | secondary;
+    }
+
+    /**
+     * Removes all ids and makes room for the ids from 0 to {@code capacity - 1}.
+     *
+     * @param capacity The number of ids.
+     */
+    public void clear(int capacity) {
+        size = 0;
+        if (slots.length < capacity) {
+            keys = new long[capacity];
+            slots = new int[capacity];
+            generations = new int[capacity];
+            generation = 0; // the new arrays are filled with generation 0
+        }
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            // after about two billion generations the old ones would become valid again
+            Arrays.fill(generations, 0);
+            generation = 1;
+        }
+    }
+
+    /**
+     * @return {@code true} if the heap is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns whether an id is in the heap.
+     *
+     * @param id The id.
+     * @return {@code true} if the id was added and has not been removed since.
+     */
+    public boolean contains(int id) {
+        return generations[id] == generation && slots[id] >= 0;
+    }
+
+    /**
+     * Adds an id that is not in the heap.
+     *
+     * @param id  The id.
+     * @param key The key of the id.
+     */
+    public void add(int id, long key) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        keys[id] = key;
+        generations[id] = generation;
+        siftUp(size++, id);
+    }
+
+    /**
+     * Lowers the key of an id in the heap. A key that is not lower is ignored.
+     *
+     * @param id  The id, which has to be in the heap.
+     * @param key The new key.
+     */
+    public void decreaseKey(int id, long key) {
+        if (key < keys[id]) {
+            keys[id] = key;
+            siftUp(slots[id], id);
+        }
+    }
+
+    /**
+     * Removes the id with the lowest key.
+     *
+     * @return The removed id.
+     */
+    public int pop() {
+        int top = heap[0];
+        slots[top] = -1;
+        int last = heap[--size];
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return top;
+    }
+
+    private void siftUp(int slot, int id) {
+        long key = keys[id];
+        while (slot > 0) {
+            int parent = (slot - 1) / 2;
+            if (keys[heap[parent]] <= key) {
+                break;
+            }
+            place(slot, heap[parent]);
+            slot = parent;
+        }
+        place(slot, id);
+    }
+
+    private void siftDown(int slot, int id) {
+        long key = keys[id];
+        while (true) {
+            int child = 2 * slot + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                child++;
+            }
+            if (key <= keys[heap[child]]) {
+                break;
+            }
+            place(slot, heap[child]);
+            slot = child;
+        }
+        place(slot, id);
+    }
+
+    private void place(int slot, int id) {
+        heap[slot] = id;
+        slots[id] = slot;
+    }
+}
@@ -0,0 +1,119 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.utils.LongArray;
+
+/**
+ * Finds shortest paths with Jump Point Search, the variant for 4-connected grids with uniform costs like the maze.
+ * Many shortest paths on such a grid are symmetric (the same moves in a different order), and plain A* expands all
+ * of them. JPS instead scans in a straight line from a tile and only opens the tile where the scan has to stop: the
+ * end tile, or a tile where a side opens up that could not be reached as cheaply without passing it (a forced
+ * neighbor). Vertical scans also stop where a horizontal scan from them would find such a tile. In open areas this
+ * expands far fewer tiles than {@link AStarPathfinding}; in narrow corridors both behave alike.
+ * <p>
+ * Scanning on every search would make a search in a wide open area slower than A*, because every step of a vertical
+ * scan scans the whole row. So the scans are precomputed once in the {@link JumpTable} of the map and looked up. Maps
+ * with more than {@link GridSearch#FIRST_WINDOW_TILES} tiles get no table, and their searches are run with
+ * {@link AStarPathfinding} instead.
+ * <p>
+ * The jump points are connected by straight lines, and the returned path contains every tile in between, just like
+ * the path of {@link AStarPathfinding}. The search state is the same reusable {@link GridSearch} per thread.
+ */
+public class JumpPointSearch {
+    private static final ThreadLocal<SearchContext> CONTEXTS = ThreadLocal.withInitial(SearchContext::new);
+
+    /**
+     * Finds the shortest path between two tiles using Jump Point Search. On maps with more than
+     * {@link GridSearch#FIRST_WINDOW_TILES} tiles, which are too large for a {@link JumpTable}, the path is found with
+     * {@link AStarPathfinding} instead.
+     *
+     * @param world  The world on which the pathfinding is to be performed.
+     * @param startX The x-coordinate of the start tile.
+     * @param startY The y-coordinate of the start tile.
+     * @param endX   The x-coordinate of the end tile.
+     * @param endY   The y-coordinate of the end tile.
+     * @param path   Cleared and filled with every tile of the path as {@code (long) y * world.getWidth() + x}, from the
+     *               start to the end tile, both included. Stays empty if no path is found.
+     * @return {@code true} if a path was found.
+     */
+    public static boolean findPath(MazeWorld world, int startX, int startY, int endX, int endY, LongArray path) {
+        JumpTable jumpTable = world.getJumpTable();
+        if (jumpTable == null) {
+            return AStarPathfinding.findPath(world, startX, startY, endX, endY, path);
+        }
+        SearchContext context = CONTEXTS.get();
+        context.jumpTable = jumpTable;
+        try {
+            return context.search(world, startX, startY, endX, endY, path);
+        } finally {
+            context.jumpTable = null; // do not keep the map alive
+        }
+    }
+
+    /**
+     * Expands a tile into the jump points in the directions that are not pruned.
+     */
+    private static class SearchContext extends GridSearch {
+        private JumpTable jumpTable; // of the searched map, the search always covers the whole map
+
+        @Override
+        protected void expand(int current, int x, int y) {
+            int parent = getParent(current);
+            if (parent == NONE) {
+                // the start, scan in all four directions
+                jump(current, x, y, -1, 0);
+                jump(current, x, y, 1, 0);
+                jump(current, x, y, 0, -1);
+                jump(current, x, y, 0, 1);
+                return;
+            }
+            // keep going in the direction we came from, or turn to either side
+            int dx = Integer.signum(x - toX(parent));
+            int dy = Integer.signum(y - toY(parent));
+            if (dx != 0) {
+                jump(current, x, y, dx, 0);
+                jump(current, x, y, 0, -1);
+                jump(current, x, y, 0, 1);
+            } else {
+                jump(current, x, y, 0, dy);
+                jump(current, x, y, -1, 0);
+                jump(current, x, y, 1, 0);
+            }
+        }
+
+        /**
+         * Looks up the scan from a tile in one direction and opens the jump point it finds.
+         */
+        private void jump(int current, int x, int y, int dx, int dy) {
+            int jumpPoint = lookUpJump(x, y, dx, dy);
+            if (jumpPoint != NONE) {
+                int jumpX = toX(jumpPoint), jumpY = toY(jumpPoint);
+                open(current, jumpX, jumpY, getGCost(current) + Math.abs(jumpX - x) + Math.abs(jumpY - y));
+            }
+        }
+
+        /**
+         * Finds the jump point of a scan in the jump table. The table does not know the end tile, so it is checked
+         * here: a horizontal scan stops at the end tile, a vertical scan at the row of the end tile, as a horizontal
+         * scan from there may reach it.
+         *
+         * @return The window index of the jump point, or {@link #NONE} if the scan ran into a wall.
+         */
+        private int lookUpJump(int x, int y, int dx, int dy) {
+            int direction = dx < 0 ? JumpTable.LEFT : dx > 0 ? JumpTable.RIGHT : dy < 0 ? JumpTable.DOWN : JumpTable.UP;
+            int jump = jumpTable.get(direction, x, y);
+            int distance = Math.abs(jump);
+            if (dx != 0) {
+                int toEnd = (endX - x) * dx;
+                if (y == endY && toEnd > 0 && toEnd <= distance) {
+                    return toIndex(endX, endY);
+                }
+            } else {
+                int toEnd = (endY - y) * dy;
+                if (toEnd > 0 && toEnd <= distance) {
+                    return toIndex(x, endY);
+                }
+            }
+            return jump > 0 ? toIndex(x + dx * jump, y + dy * jump) : NONE;
+        }
+    }
+}
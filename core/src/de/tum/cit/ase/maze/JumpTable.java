@@ -0,0 +1,100 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * Precomputed jumps of {@link JumpPointSearch} for one map. For every tile and each of the four directions it stores
+ * how far a scan in that direction goes: a positive value is the distance to the next jump point, a negative value
+ * (or zero) the number of free tiles before the scan runs into a wall. The jumps do not depend on the start or the
+ * end of a search, so the table is built once per map in O(tiles), and every scan of a search becomes one lookup.
+ * <p>
+ * A horizontal scan stops at a tile with a forced neighbor above or below it, a vertical scan at a tile with a forced
+ * neighbor to its left or right or with a horizontal jump point in its row. The end tile of a search is checked by
+ * the search itself.
+ */
+public class JumpTable {
+    public static final int LEFT = 0;
+    public static final int RIGHT = 1;
+    public static final int DOWN = 2;
+    public static final int UP = 3;
+
+    private final MazeWorld world;
+    private final int width;
+    private final int[][] jumps = new int[4][]; // per direction, indexed by y * width + x
+
+    /**
+     * Builds the jumps of all tiles of a world.
+     *
+     * @param world The world, whose walkable tiles must not change while the table is used.
+     */
+    public JumpTable(MazeWorld world) {
+        this.world = world;
+        this.width = world.getWidth();
+        int height = world.getHeight();
+        for (int direction = 0; direction < jumps.length; direction++) {
+            jumps[direction] = new int[width * height];
+        }
+        // the horizontal jumps first, the vertical ones stop where they find one
+        for (int y = 0; y < height; y++) {
+            for (int x = width - 1; x >= 0; x--) {
+                set(RIGHT, x, y, 1, 0);
+            }
+            for (int x = 0; x < width; x++) {
+                set(LEFT, x, y, -1, 0);
+            }
+        }
+        for (int x = 0; x < width; x++) {
+            for (int y = height - 1; y >= 0; y--) {
+                set(UP, x, y, 0, 1);
+            }
+            for (int y = 0; y < height; y++) {
+                set(DOWN, x, y, 0, -1);
+            }
+        }
+    }
+
+    /**
+     * Returns the jump from a tile in a direction.
+     *
+     * @param direction {@link #LEFT}, {@link #RIGHT}, {@link #DOWN} or {@link #UP}.
+     * @param x         The x-coordinate of the tile.
+     * @param y         The y-coordinate of the tile.
+     * @return The distance to the next jump point if it is positive, otherwise minus the number of free tiles before
+     *         the next wall.
+     */
+    public int get(int direction, int x, int y) {
+        return jumps[direction][y * width + x];
+    }
+
+    /**
+     * Computes the jump from a tile from the jump of its neighbor in the direction, which is already known.
+     */
+    private void set(int direction, int x, int y, int dx, int dy) {
+        int nextX = x + dx, nextY = y + dy;
+        int jump;
+        if (!isFree(nextX, nextY)) { // also filled for walls, a search may start on one
+            jump = 0;
+        } else if (isJumpPoint(nextX, nextY, dx, dy)) {
+            jump = 1;
+        } else {
+            int next = get(direction, nextX, nextY);
+            jump = next > 0 ? next + 1 : next - 1;
+        }
+        jumps[direction][y * width + x] = jump;
+    }
+
+    /**
+     * Returns whether a scan in the direction stops at the given walkable tile.
+     */
+    private boolean isJumpPoint(int x, int y, int dx, int dy) {
+        if (dx != 0) {
+            // forced neighbor above or below
+            return (isFree(x, y - 1) && !isFree(x - dx, y - 1)) || (isFree(x, y + 1) && !isFree(x - dx, y + 1));
+        }
+        // forced neighbor to the left or right, or a horizontal scan from here finds a jump point
+        return (isFree(x - 1, y) && !isFree(x - 1, y - dy)) || (isFree(x + 1, y) && !isFree(x + 1, y - dy))
+                || get(LEFT, x, y) > 0 || get(RIGHT, x, y) > 0;
+    }
+
+    private boolean isFree(int x, int y) {
+        return world.isCellfree(x, y);
+    }
+}
@@ -30,26 +30,17 @@ public class Key extends GameObject {
      */
     public Key(float x, float y, String texturePath, TextureManager textureManager) {
         super(x, y, texturePath, textureManager);
-        // Split the sprite sheet into individual frames
-        TextureRegion[][] tmp = TextureRegion.split(texture,
-                texture.getWidth() / FRAME_COLS,
-                texture.getHeight() / FRAME_ROWS);
+        // Take the shared frame of the sprite sheet
         // Key is nine (looks a bit like a key)
-        currentFrame = tmp[16][5];
+        currentFrame = textureManager.getFrame(texturePath, FRAME_COLS, FRAME_ROWS, 16, 5);
         boundingRectangle = new Rectangle(x, y, getWidth(), getHeight());
     }
 
     /**
-     * Collects the key, marking it as collected and removing it from the game map.
-     * This method should be called when the player character intersects with the key's bounding rectangle.
-     *
-     * @param gameMap The {@link GameMap} object from which the key should be removed.
+     * Marks the key as collected. The key tile itself is removed from the {@link MazeWorld} by the {@link MazeSimulation}.
      */
-    // Add a method to collect the key
-    public void collect(GameMap gameMap) {
-        // Remove the key from the map's gameObjects array
+    public void collect() {
         isCollected = true;
-        gameMap.removeKey(this);
     }
 
     /**
@@ -113,4 +104,13 @@ public boolean isCollected() {
         return isCollected;
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns the frame of the sprite sheet the key is drawn with.
+     *
+     * @return The texture region of the key.
+     */
+    @Override
+    public TextureRegion getCurrentFrame() {
+        return currentFrame;
+    }
+}
@@ -0,0 +1,112 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Caches parsed levels, so restarting or reloading a map does not read and parse the level file again.
+ * Entries are keyed by the path of the level file plus its modification time and size (or a CRC32 of its content
+ * when the modification time is unknown, e.g. inside a jar), so an edited file is parsed again.
+ * The cached {@link MapData} is immutable and shared by every {@link GameMap} built from it.
+ * The cache is bounded by the total number of tiles it holds and evicts the least recently used levels first.
+ * All methods are synchronized, as levels are loaded on a background thread.
+ */
+public class LevelCache {
+    private final long maxTiles;
+    private long cachedTiles;
+    private final LinkedHashMap<String, MapData> levels = new LinkedHashMap<>(16, 0.75f, true); // access order
+
+    /**
+     * Constructs a new level cache.
+     *
+     * @param maxTiles The maximum number of tiles of all cached levels together (one byte each).
+     */
+    public LevelCache(long maxTiles) {
+        this.maxTiles = maxTiles;
+    }
+
+    /**
+     * Returns the layout of the given level file, loading it with {@link MapLoader#loadLayout(FileHandle)} if it is
+     * not cached or the file has changed since it was cached. Memory-mapped layouts of large maps are not cached,
+     * as they do not hold their tiles on the heap.
+     *
+     * @param levelFile The handle of the level file.
+     * @return The layout of the level.
+     * @throws IOException If the level file cannot be read.
+     */
+    public synchronized TileSource load(FileHandle levelFile) throws IOException {
+        String key = cacheKey(levelFile);
+        MapData mapData = levels.get(key);
+        if (mapData != null) {
+            return mapData;
+        }
+
+        TileSource layout = MapLoader.loadLayout(levelFile);
+        long tiles = (long) layout.getWidth() * layout.getHeight();
+        if (layout instanceof MapData && tiles <= maxTiles) {
+            levels.put(key, (MapData) layout);
+            cachedTiles += tiles;
+            evict();
+        }
+        return layout;
+    }
+
+    /**
+     * Returns the parsed level for the given level file if it is cached and the file has not changed since,
+     * without loading anything.
+     *
+     * @param levelFile The handle of the level file.
+     * @return The cached level, or {@code null} if it has to be loaded with {@link #load(FileHandle)}.
+     */
+    public synchronized MapData getCached(FileHandle levelFile) {
+        return levels.get(cacheKey(levelFile));
+    }
+
+    /**
+     * Removes all cached levels.
+     */
+    public synchronized void clear() {
+        levels.clear();
+        cachedTiles = 0;
+    }
+
+    /**
+     * Evicts the least recently used levels until the cache fits into its tile budget.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, MapData>> iterator = levels.entrySet().iterator();
+        while (cachedTiles > maxTiles && iterator.hasNext()) {
+            MapData eldest = iterator.next().getValue();
+            cachedTiles -= (long) eldest.getWidth() * eldest.getHeight();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Builds the cache key of a level file from its path and version. The version is the modification time and
+     * size of the file (of its binary sibling too, as that one is loaded when it exists), or a checksum of the content
+     * if the modification time is unknown.
+     */
+    private static String cacheKey(FileHandle levelFile) {
+        FileHandle binaryFile = BinaryMapFormat.binarySibling(levelFile);
+        return levelFile.path() + "@" + version(levelFile) + (binaryFile.equals(levelFile) ? "" : "/" + version(binaryFile));
+    }
+
+    private static String version(FileHandle file) {
+        if (!file.exists()) {
+            return "-";
+        }
+        long lastModified = file.lastModified();
+        if (lastModified != 0) {
+            return lastModified + ":" + file.length();
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(file.readBytes());
+        return Long.toHexString(checksum.getValue());
+    }
+}
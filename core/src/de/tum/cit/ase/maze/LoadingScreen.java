@@ -0,0 +1,162 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * The {@code LoadingScreen} loads a level without blocking the render thread. Parsing the level file and building the
+ * {@link GameMap} run on the game's background executor, while the textures they need are uploaded on the render
+ * thread through {@code Gdx.app.postRunnable}. In the meantime a progress bar is rendered every frame, and once the map
+ * is ready the {@link GameScreen} is created and shown. The screen is built once by the {@link ScreenManager} and
+ * reused for every level.
+ */
+public class LoadingScreen implements Screen {
+    // every texture the game objects of a map use, they have to be uploaded before the map is built
+    static final String[] MAP_TEXTURES = {"basictiles.png", "things.png", "objects.png", "mobs.png", "character.png"};
+
+    private final MazeRunnerGame game;
+    private String mapPath;
+    private final Stage stage;
+    private final ProgressBar progressBar;
+    private volatile float progress; // written by the loader thread, read by the render thread
+    private AsyncResult<GameMap> result;
+
+    /**
+     * Constructs the loading screen. The level to load is set with {@link #load(String)}.
+     *
+     * @param game The main game class, used to access shared resources and to switch to the game screen.
+     */
+    public LoadingScreen(MazeRunnerGame game) {
+        this.game = game;
+        stage = new Stage(new ScreenViewport(), game.getSpriteBatch());
+
+        Table table = new Table();
+        table.setFillParent(true);
+        table.add(new Label("Loading maze...", game.getSkin(), "title")).padBottom(40).row();
+        progressBar = new ProgressBar(0, 1, 0.01f, false, game.getSkin());
+        table.add(progressBar).width(500);
+        stage.addActor(table);
+    }
+
+    /**
+     * Sets the level to load and resets the progress bar. Loading starts as soon as the screen is shown.
+     *
+     * @param mapPath The file path of the level to load.
+     */
+    public void load(String mapPath) {
+        this.mapPath = mapPath;
+        progress = 0f;
+        result = null;
+    }
+
+    /**
+     * Starts loading the level on the background executor.
+     */
+    @Override
+    public void show() {
+        Gdx.input.setInputProcessor(stage);
+        if (result == null) {
+            String path = mapPath; // the loader thread must not see a later level
+            result = game.getLevelLoader().submit(() -> loadMap(path));
+        }
+    }
+
+    /**
+     * Runs on the background executor: parses the level (or takes it from the level cache), lets the render thread upload the textures
+     * and builds the game map.
+     *
+     * @param mapPath The file path of the level to load.
+     * @return The fully built game map.
+     * @throws Exception If the level file cannot be read or the loading was interrupted.
+     */
+    private GameMap loadMap(String mapPath) throws Exception {
+        progress = 0.1f;
+        TileSource layout = game.getLevelCache().load(Gdx.files.internal(mapPath)); // parsed only if not cached
+        progress = 0.5f;
+
+        // textures can only be created on the render thread
+        CountDownLatch texturesLoaded = new CountDownLatch(1);
+        Gdx.app.postRunnable(() -> {
+            game.getTextureManager().preload(MAP_TEXTURES);
+            texturesLoaded.countDown();
+        });
+        texturesLoaded.await();
+        progress = 0.7f;
+
+        GameMap gameMap = new GameMap(layout, game.getTextureManager());
+        progress = 1f;
+        return gameMap;
+    }
+
+    /**
+     * Renders the progress bar and switches to the game screen once the map has been loaded.
+     *
+     * @param delta The time in seconds since the last render.
+     */
+    @Override
+    public void render(float delta) {
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        if (result != null && result.isDone()) {
+            AsyncResult<GameMap> loaded = result;
+            result = null; // the screen is kept for the next level
+            GameMap gameMap;
+            try {
+                gameMap = loaded.get();
+            } catch (GdxRuntimeException e) {
+                Gdx.app.log("Level Load Error", "Failed to load level file: " + mapPath, e);
+                game.goToMenu();
+                return;
+            }
+            game.showLoadedGame(new GameScreen(game, gameMap));
+            return;
+        }
+
+        progressBar.setValue(progress);
+        stage.act(delta);
+        stage.draw();
+    }
+
+    /**
+     * Resizes the viewport in response to window size changes.
+     *
+     * @param width  The new width of the window.
+     * @param height The new height of the window.
+     */
+    @Override
+    public void resize(int width, int height) {
+        stage.getViewport().update(width, height, true);
+    }
+
+    /**
+     * Disposes of the stage of this screen, when the game is closed.
+     */
+    @Override
+    public void dispose() {
+        stage.dispose();
+    }
+
+    // The following methods are part of the Screen interface but are not used in this screen.
+    @Override
+    public void pause() {
+    }
+
+    @Override
+    public void resume() {
+    }
+
+    @Override
+    public void hide() {
+    }
+}
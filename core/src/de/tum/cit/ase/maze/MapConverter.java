@@ -0,0 +1,58 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Command line tool that converts .properties level files into the binary {@code .maze} format of {@link BinaryMapFormat}.
+ * The converted file is written next to the original one with the same name, so {@link MapLoader} picks it up automatically.
+ * Usage: {@code MapConverter <file or directory>...}, directories are scanned for .properties files (not recursively).
+ * From Gradle: {@code ./gradlew :core:convertMaps} converts everything in {@code assets/maps}.
+ */
+public class MapConverter {
+
+    /**
+     * Converts every given level file, or every .properties file inside the given directories.
+     *
+     * @param args Files or directories to convert.
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: MapConverter <file or directory>...");
+            return;
+        }
+        for (String arg : args) {
+            File file = new File(arg);
+            File[] files = file.isDirectory() ? file.listFiles((dir, name) -> name.endsWith(".properties")) : new File[]{file};
+            if (files == null) {
+                System.err.println("Cannot read " + arg);
+                continue;
+            }
+            for (File levelFile : files) {
+                try {
+                    File target = convert(levelFile);
+                    System.out.println(levelFile + " -> " + target);
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("Failed to convert " + levelFile + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts a single .properties level file into a {@code .maze} file next to it.
+     *
+     * @param levelFile The .properties file to convert.
+     * @return The written {@code .maze} file.
+     * @throws IOException If reading or writing fails.
+     */
+    public static File convert(File levelFile) throws IOException {
+        FileHandle source = new FileHandle(levelFile);
+        MapData mapData = MapLoader.loadProperties(source);
+        File target = BinaryMapFormat.binarySibling(source).file();
+        BinaryMapFormat.write(mapData, target);
+        return target;
+    }
+}
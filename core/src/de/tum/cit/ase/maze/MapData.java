@@ -0,0 +1,133 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * Holds the raw tile layout of a maze as it was read from a level file, independent of the file format it came from.
+ * The tiles are stored row-major in a flat {@code byte} array (index {@code y * width + x}) using the tile type values
+ * of the .properties format, so both the text and the binary loader can fill it without creating any game objects.
+ * Next to the tiles it keeps the positions of the enemy spawns and special tiles (everything except walls).
+ * A {@code MapData} is never modified after construction, so the same instance can be shared by several
+ * {@link GameMap}s, e.g. through the {@link LevelCache}.
+ */
+public class MapData implements TileSource {
+    // Tile types as used in the level files
+    public static final byte WALL = 0;
+    public static final byte ENTRY = 1;
+    public static final byte EXIT = 2;
+    public static final byte TRAP = 3;
+    public static final byte ENEMY = 4;
+    public static final byte KEY = 5;
+    public static final byte EXTRA_LIFE = 6; // not used in level files, placed at runtime by the MazeWorld
+    public static final byte EMPTY = -1; // cells without an entry in the level file (plain path)
+
+    private static final long[] NO_POSITIONS = new long[0];
+
+    private final int width;
+    private final int height;
+    private final byte[] tiles;
+    private final long[][] positions; // row-major tile indices per tile type, walls are not indexed
+
+    /**
+     * Constructs a new {@code MapData} object from an already filled tile array.
+     *
+     * @param width  The width of the map in tiles.
+     * @param height The height of the map in tiles.
+     * @param tiles  The row-major tile types, must hold exactly {@code width * height} entries.
+     */
+    public MapData(int width, int height, byte[] tiles) {
+        if (tiles.length != width * height) {
+            throw new IllegalArgumentException("Expected " + (width * height) + " tiles but got " + tiles.length);
+        }
+        this.width = width;
+        this.height = height;
+        this.tiles = tiles;
+        this.positions = indexPositions();
+    }
+
+    /**
+     * Collects the row-major indices of all non-wall tiles, grouped by tile type.
+     */
+    private long[][] indexPositions() {
+        int[] counts = new int[KEY + 1];
+        for (byte tile : tiles) {
+            if (tile > WALL && tile <= KEY) counts[tile]++;
+        }
+        long[][] result = new long[KEY + 1][];
+        for (int type = 0; type <= KEY; type++) {
+            result[type] = type == WALL ? NO_POSITIONS : new long[counts[type]];
+        }
+        int[] filled = new int[KEY + 1];
+        for (int i = 0; i < tiles.length; i++) {
+            byte tile = tiles[i];
+            if (tile > WALL && tile <= KEY) result[tile][filled[tile]++] = i;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the tile type at the given tile coordinates.
+     *
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     * @return The tile type, or {@link #EMPTY} if nothing is placed there.
+     */
+    @Override
+    public byte getTile(int x, int y) {
+        return tiles[y * width + x];
+    }
+
+    /**
+     * Returns the width of the map in tiles.
+     *
+     * @return The width of the map.
+     */
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the map in tiles.
+     *
+     * @return The height of the map.
+     */
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the positions of all tiles of the given type as row-major indices ({@code y * width + x}),
+     * in ascending order. Walls are not indexed, so an empty array is returned for them and for unknown types.
+     * The returned array is shared and must not be modified.
+     *
+     * @param tileType The tile type, e.g. {@link #ENEMY} for the enemy spawns.
+     * @return The row-major indices of the tiles, never {@code null}.
+     */
+    @Override
+    public long[] getPositions(byte tileType) {
+        if (tileType < 0 || tileType >= positions.length) {
+            return NO_POSITIONS;
+        }
+        return positions[tileType];
+    }
+
+    /**
+     * Returns whether a tile type can appear in a level file: {@link #EMPTY} or one of {@link #WALL} to {@link #KEY}.
+     * Both loaders treat other values as {@link #EMPTY}.
+     *
+     * @param tileType The tile type.
+     * @return {@code true} if the type is allowed in a level file.
+     */
+    public static boolean isLevelType(int tileType) {
+        return tileType == EMPTY || tileType >= WALL && tileType <= KEY;
+    }
+
+    /**
+     * Returns the backing row-major tile array. It is not copied, so callers must not modify it.
+     *
+     * @return The tile types of the whole map.
+     */
+    public byte[] getTiles() {
+        return tiles;
+    }
+}
@@ -0,0 +1,80 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Loads the tile layout of a level into {@link MapData}. Both level formats are supported:
+ * the text based .properties format ({@code x,y=type} per line) and the binary {@code .maze} format
+ * of {@link BinaryMapFormat}. If a binary version of a .properties file exists next to it, the binary one is used.
+ */
+public class MapLoader {
+
+    private MapLoader() {
+    }
+
+    /**
+     * Loads a level, preferring the binary {@code .maze} file next to the given file when it is there
+     * and not older than the .properties file.
+     *
+     * @param levelFile The handle of the level file (.properties or .maze).
+     * @return The parsed {@link MapData}.
+     * @throws IOException If the level file cannot be read.
+     */
+    public static MapData load(FileHandle levelFile) throws IOException {
+        FileHandle binaryFile = BinaryMapFormat.binarySibling(levelFile);
+        if (binaryFile.exists() && !isOutdated(binaryFile, levelFile)) {
+            return BinaryMapFormat.read(binaryFile);
+        }
+        return loadProperties(levelFile);
+    }
+
+    /**
+     * Loads the layout of a level for a {@link MazeWorld}. A binary file on the local file system that has more tiles
+     * than a world keeps in one array is not loaded but opened as a {@link MappedTileSource}, which the world pages in
+     * regions; everything else is loaded with {@link #load(FileHandle)}.
+     *
+     * @param levelFile The handle of the level file (.properties or .maze).
+     * @return The layout of the level.
+     * @throws IOException If the level file cannot be read.
+     */
+    public static TileSource loadLayout(FileHandle levelFile) throws IOException {
+        FileHandle binaryFile = BinaryMapFormat.binarySibling(levelFile);
+        if (binaryFile.type() != Files.FileType.Classpath && binaryFile.exists() && !isOutdated(binaryFile, levelFile)) {
+            MappedTileSource source = BinaryMapFormat.openTileSource(binaryFile.file());
+            if ((long) source.getWidth() * source.getHeight() > MazeWorld.MAX_FLAT_TILES) {
+                return source;
+            }
+        }
+        return load(levelFile);
+    }
+
+    /**
+     * Loads a level from a .properties file using the streaming {@link PropertiesMapParser}.
+     *
+     * @param levelFile The handle of the .properties file.
+     * @return The parsed {@link MapData}.
+     * @throws IOException If the file cannot be read.
+     */
+    public static MapData loadProperties(FileHandle levelFile) throws IOException {
+        try (InputStream input = levelFile.read()) {
+            return PropertiesMapParser.parse(input);
+        }
+    }
+
+    /**
+     * Checks whether a binary level file is older than the text file it was converted from.
+     * If one of the modification times is unknown (e.g. inside a jar) the binary file is trusted.
+     */
+    private static boolean isOutdated(FileHandle binaryFile, FileHandle levelFile) {
+        if (binaryFile.equals(levelFile) || !levelFile.exists()) {
+            return false;
+        }
+        long binaryModified = binaryFile.lastModified();
+        long levelModified = levelFile.lastModified();
+        return binaryModified != 0 && levelModified != 0 && binaryModified < levelModified;
+    }
+}
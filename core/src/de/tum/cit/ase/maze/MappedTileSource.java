@@ -0,0 +1,67 @@
+package de.tum.cit.ase.maze;
+
+import java.nio.MappedByteBuffer;
+
+/**
+ * A {@link TileSource} that reads the tiles of a binary {@code .maze} file straight from the memory-mapped file, see
+ * {@link BinaryMapFormat#openTileSource(java.io.File)}. The operating system only loads the pages of the file that
+ * are read and can drop them again at any time, so the heap does not grow with the size of the map.
+ * <p>
+ * One mapping holds at most 2 GB, so the tiles are mapped in segments of {@link #SEGMENT_SIZE} bytes and addressed
+ * with {@code long} indices; the number of tiles is only limited by the address space. The positions of the special
+ * tiles and enemy spawns come from the header of the file, if it lists them.
+ */
+public class MappedTileSource implements TileSource {
+    static final int SEGMENT_BITS = 30;
+    static final long SEGMENT_SIZE = 1L << SEGMENT_BITS; // tiles per mapped segment, the last one may be shorter
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final long[] NO_POSITIONS = new long[0];
+
+    private final int width;
+    private final int height;
+    private final MappedByteBuffer[] segments; // row-major, one byte per tile
+    private final long[][] positions; // per tile type, null if the file does not list them
+
+    /**
+     * Constructs a tile source over mapped tile bytes.
+     *
+     * @param width     The width of the maze in tiles.
+     * @param height    The height of the maze in tiles.
+     * @param segments  The row-major tile types, {@link #SEGMENT_SIZE} tiles per segment and at least
+     *                  {@code width * height} in total.
+     * @param positions The row-major indices of the tiles of each type up to {@link MapData#KEY}, or {@code null} if
+     *                  they are not known.
+     */
+    MappedTileSource(int width, int height, MappedByteBuffer[] segments, long[][] positions) {
+        this.width = width;
+        this.height = height;
+        this.segments = segments;
+        this.positions = positions;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public byte getTile(int x, int y) {
+        long index = (long) y * width + x;
+        // absolute reads, so several threads can share the buffers
+        byte tileType = segments[(int) (index >>> SEGMENT_BITS)].get((int) (index & SEGMENT_MASK));
+        return MapData.isLevelType(tileType) ? tileType : MapData.EMPTY; // as in BinaryMapFormat#read
+    }
+
+    @Override
+    public long[] getPositions(byte tileType) {
+        if (positions == null) {
+            return null;
+        }
+        return tileType > MapData.WALL && tileType < positions.length ? positions[tileType] : NO_POSITIONS;
+    }
+}
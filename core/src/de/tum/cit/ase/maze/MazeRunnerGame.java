@@ -12,6 +12,7 @@
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Timer;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
 import games.spooky.gdx.nativefilechooser.NativeFileChooser;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
@@ -30,9 +31,8 @@
 public class MazeRunnerGame extends Game {
     public static final int V_WIDTH = 400;
     public static final int V_HEIGHT = 208;
-    // Screens
-    private MenuScreen menuScreen;
-    private GameScreen gameScreen;
+    // Screens, built once and reused
+    private ScreenManager screens;
     private ShapeRenderer shapeRenderer;
 
     // Sprite Batch for rendering
@@ -58,6 +58,10 @@ public class MazeRunnerGame extends Game {
     //Texture Manager
     private TextureManager textureManager;
     private boolean showNoGameStartedMessage = false;
+    // Background thread for level loading
+    private AsyncExecutor levelLoader;
+    // Parsed levels, so reloading a map skips reading and parsing the file
+    private final LevelCache levelCache = new LevelCache(32 * 1024 * 1024);
 
 
 
@@ -84,6 +88,8 @@ public void create() {
         shapeRenderer = new ShapeRenderer();
         skin = new Skin(Gdx.files.internal("craft/craftacular-ui.json")); // Load UI skin
         textureManager = new TextureManager();
+        levelLoader = new AsyncExecutor(1, "LevelLoader");
+        screens = new ScreenManager(this);
         this.loadCharacterAnimation(); // Load character animation
 
 
@@ -239,21 +245,11 @@ public void goToMenu() {
             menuMusic.play();
         }
         stopWinMusic();
-        this.setScreen(new MenuScreen(this)); // Set the current screen to MenuScreen
-
-// Only hide the game screen, do not dispose of it
-        if (gameScreen != null) {
-            gameScreen.pause();
-            // Do not dispose of or nullify gameScreen here
-        }
-        if (menuScreen == null) {
-            menuScreen = new MenuScreen(this);
-        }
-        setScreen(menuScreen);
+        screens.showMenu(); // pauses the game screen, it is kept to be continued
     }
 
     /**
-     * Switches to the game screen. //ToDo delete
+     * Switches to the game screen. The map is loaded in the background while a {@link LoadingScreen} is shown.
      */
     public void goToGame() {
         if (menuMusic != null && menuMusic.isPlaying()) {
@@ -262,12 +258,16 @@ public void goToGame() {
         if (backgroundMusic != null && !backgroundMusic.isPlaying()) {
             backgroundMusic.play();
         }
-        gameScreen = new GameScreen(this);
-        setScreen(gameScreen);
-        if (menuScreen != null) {
-            menuScreen.dispose(); // Dispose the menu screen if it exists
-            menuScreen = null;
-        }
+        screens.showLoading(GameScreen.resolveMapPath(mapFilePath)); // the menu screen is kept for later
+    }
+
+    /**
+     * Shows a game screen whose map has been loaded by the {@link LoadingScreen}.
+     *
+     * @param loadedGameScreen The game screen of the loaded map.
+     */
+    public void showLoadedGame(GameScreen loadedGameScreen) {
+        screens.showGame(loadedGameScreen);
     }
 
     /**
@@ -281,6 +281,7 @@ public void resumeGame() {
         if (backgroundMusic != null && !backgroundMusic.isPlaying()) {
             backgroundMusic.play();
         }
+        GameScreen gameScreen = screens.getGameScreen();
         if (gameScreen == null) {
 
             showNoGameStartedMessage = true;
@@ -297,7 +298,7 @@ public void run() {
 
         }
         else {
-            setScreen(gameScreen);
+            screens.showGame(gameScreen);
             gameScreen.resume();
             showNoGameStartedMessage = false; // Ensure the flag is reset if not showing the message
         }
@@ -329,8 +330,7 @@ private void loadCharacterAnimation() {
      */
     @Override
     public void dispose() {
-        getScreen().hide(); // Hide the current screen
-        getScreen().dispose(); // Dispose the current screen
+        screens.dispose(); // Hide the current screen and dispose all screens
         spriteBatch.dispose(); // Dispose the spriteBatch
         skin.dispose(); // Dispose the skin
         if (backgroundMusic != null) { backgroundMusic.dispose();}
@@ -338,7 +338,8 @@ public void dispose() {
         keyPickupSound.dispose();
         if (enemySound != null) enemySound.dispose();
         if (gameOverSound != null) {gameOverSound.dispose();}
-        //if(textureManager != null) textureManager.dispose();
+        if (levelLoader != null) levelLoader.dispose();
+        if (textureManager != null) textureManager.dispose(); // shared by all levels, disposed only here
     }
 
     // Getter methods
@@ -366,10 +367,15 @@ public void setMapFilePath(String mapFilePath) {
     // Getter method
     public TextureManager getTextureManager() { return textureManager;}
 
+    public AsyncExecutor getLevelLoader() { return levelLoader; }
+
+    public LevelCache getLevelCache() { return levelCache; }
+
     /**
      * Opens the file chooser interface for the user to select a maze file to play.
      * This method utilizes the native file chooser dialog to allow the user to select a file
-     * with a '.properties' extension, typically used to define the layout and properties of a maze.
+     * with a '.properties' extension, typically used to define the layout and properties of a maze,
+     * or a binary '.maze' file created by {@link MapConverter}.
      *
      * Once a file is chosen, the game proceeds to load the selected maze. If the user cancels the
      * file selection or an error occurs during the file selection process, the game will handle these
@@ -380,7 +386,7 @@ public void chooseMazeFile() {
         var fileChooserConfig = new NativeFileChooserConfiguration();
         fileChooserConfig.title = "Pick a maze file";
         fileChooserConfig.intent = NativeFileChooserIntent.OPEN;
-        fileChooserConfig.nameFilter = (file, name) -> name.endsWith("properties");
+        fileChooserConfig.nameFilter = (file, name) -> name.endsWith("properties") || name.endsWith(BinaryMapFormat.EXTENSION);
 
 
         FileHandle initialDirectory = Gdx.files.absolute(System.getProperty("user.home"));
@@ -414,11 +420,8 @@ public void goToGameWithNewMap(String mapFilePath) {
         if (backgroundMusic != null && !backgroundMusic.isPlaying()) {
             backgroundMusic.play();
         }
-        if (gameScreen != null) {
-            gameScreen.dispose(); // Dispose of the current game screen if it exists
-        }
-        gameScreen = new GameScreen(this); // Create a new game screen with the chosen map
-        setScreen(gameScreen); // Set the new game screen
+        // Load the chosen map in the background, the current game screen is disposed
+        screens.showLoading(GameScreen.resolveMapPath(mapFilePath));
     }
 
 
@@ -0,0 +1,293 @@
+package de.tum.cit.ase.maze;
+
+import java.awt.*;
+import java.util.Random;
+
+/**
+ * The rules of one game, independent of rendering: the player moving through the {@link MazeWorld}, the enemies,
+ * collisions with traps and enemies, key and extra life pickups, the countdown timer and the win and lose conditions.
+ * {@link #step(float, Player.Direction)} advances the game by one fixed tick. Nothing here uses libGDX graphics, audio,
+ * input or file APIs, so many games can be simulated on machines without a display (see {@link SimulationRunner});
+ * the {@link GameScreen} drives a simulation with keyboard input and reacts to its events through a {@link SimulationListener}.
+ */
+public class MazeSimulation {
+    public static final int TIME_LIMIT = 200; // seconds
+    private static final float HIT_REPEAT_INTERVAL = 3.0f; // standing on a trap or next to an enemy hurts again after this time
+
+    /**
+     * The state of the game.
+     */
+    public enum State {
+        RUNNING, WON, LOST
+    }
+
+    private final MazeWorld world;
+    private final Player player;
+    private final Random random;
+    private final FlowField flowField; // toward the player, shared by the chasing enemies
+    private SimulationListener listener = new SimulationListener() {
+    };
+    private State state = State.RUNNING;
+    private int secondsLeft = TIME_LIMIT;
+    private float timeCount;
+    private float elapsedTime;
+    private boolean timerPaused;
+
+    // repeated hits while the player keeps touching an enemy or a trap
+    private boolean isCollidingWithEnemy = false;
+    private float timeSinceLastEnemyHit = 0;
+    private boolean isCollidingWithTrap = false;
+    private float timeSinceLastTrapHit = 0;
+
+    /**
+     * Creates a simulation for a map layout. The same seed always gives the same game for the same inputs.
+     *
+     * @param layout The map layout, e.g. a parsed {@link MapData}.
+     * @param seed   The seed for the placement of the extra lives and the random enemy movement.
+     */
+    public MazeSimulation(TileSource layout, long seed) {
+        this(new Random(seed), layout);
+    }
+
+    private MazeSimulation(Random random, TileSource layout) {
+        this(new MazeWorld(layout, random), random);
+    }
+
+    /**
+     * Creates a simulation for an existing world, e.g. the one of a {@link GameMap}. The player starts at the entry.
+     *
+     * @param world  The world to play in.
+     * @param random The random generator for the random enemy movement.
+     */
+    public MazeSimulation(MazeWorld world, Random random) {
+        this.world = world;
+        this.random = random;
+        this.flowField = new FlowField(world);
+        Point entryPoint = world.findEntry();
+        this.player = entryPoint != null ? new Player(entryPoint.x, entryPoint.y, Player.MAX_LIVES) : new Player(0, 0, Player.MAX_LIVES);
+    }
+
+    /**
+     * Sets the listener that is told about the events of the game.
+     *
+     * @param listener The listener.
+     */
+    public void setListener(SimulationListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Advances the game by one tick: the timer, the player's movement and pickups, the collisions with enemies and
+     * traps and the enemies. Does nothing once the game is won or lost.
+     *
+     * @param deltaTime The length of the tick in seconds.
+     * @param input     The direction the player wants to move in, or {@code null} to stand still.
+     */
+    public void step(float deltaTime, Player.Direction input) {
+        if (state != State.RUNNING) {
+            return;
+        }
+        // remember where everything was, rendering interpolates from there
+        player.savePreviousPosition();
+        for (Enemy enemy : world.getEnemies()) {
+            enemy.savePreviousPosition();
+        }
+        elapsedTime += deltaTime;
+
+        updateTimer(deltaTime);
+        checkWinCondition();
+        movePlayer(input, deltaTime);
+        handleEnemyCollision(deltaTime);
+        handleTrapCollision(deltaTime);
+        handleExtraLifeCollision();
+
+        //cooldown
+        player.update(deltaTime);
+        if (world.collusionWithKey(player.getX(), player.getY()) && !player.hasKey()) {
+            player.setHasKey(true);
+        }
+
+        //enemy movement
+        // the center of the character, the field is only computed again if it is on another tile and an enemy asks
+        flowField.setTarget((int) (player.getX() / MazeWorld.TILE_SIZE + 0.5f), (int) (player.getY() / MazeWorld.TILE_SIZE + 1));
+        for (Enemy enemy : world.getEnemies()) {
+            enemy.update(deltaTime, world, player, flowField, random);
+        }
+    }
+
+    /**
+     * Counts down the timer and ends the game when the time is up.
+     */
+    private void updateTimer(float deltaTime) {
+        if (timerPaused) {
+            return;
+        }
+        timeCount += deltaTime;
+        if (timeCount >= 1) {
+            secondsLeft--;
+            timeCount = 0;
+            listener.timeChanged(secondsLeft);
+            if (secondsLeft <= 0) {
+                end(State.LOST);
+            }
+        }
+    }
+
+    /**
+     * Checks if the player stands on an exit with the key and ends the game as won.
+     */
+    private void checkWinCondition() {
+        if (state == State.RUNNING && player.hasKey() && world.collusionWithExit(player.getX(), player.getY())) {
+            end(State.WON);
+        }
+    }
+
+    /**
+     * Moves the player into the given direction unless a wall is in the way, and picks up a key there.
+     * The probe points are offset from the position so the sprite does not overlap the walls.
+     */
+    private void movePlayer(Player.Direction input, float deltaTime) {
+        if (input == null || state != State.RUNNING) {
+            player.stop();
+            return;
+        }
+        float probeX = player.getX();
+        float probeY = player.getY();
+        switch (input) {
+            case UP -> probeY += 13;
+            case DOWN -> probeY -= 1; //13+1=7+7 just different division (looks wierd otherwise)
+            case LEFT -> probeX -= 7; //7 is two smaller than sprite size divided by two (origin point for collusion detection is the middle)
+            case RIGHT -> probeX += 7;
+        }
+        if (world.isCellBlocked(probeX, probeY)) {
+            player.stop();
+            return;
+        }
+        player.move(input, deltaTime);
+        if (world.collusionWithKey(probeX, probeY)) {
+            world.removeTileAt(world.toCharacterTileX(probeX), world.toCharacterTileY(probeY));
+            player.setHasKey(true);
+            listener.keyCollected();
+        }
+    }
+
+    /**
+     * Takes a life when the player touches an enemy, and again every few seconds while the player keeps touching it.
+     */
+    private void handleEnemyCollision(float deltaTime) {
+        if (world.collusionWithEnemy(player.getX(), player.getY())) {
+            if (!isCollidingWithEnemy) {
+                hitPlayer(true);
+                timeSinceLastEnemyHit = 0;
+                isCollidingWithEnemy = true;
+            } else {
+                timeSinceLastEnemyHit += deltaTime;
+                if (timeSinceLastEnemyHit >= HIT_REPEAT_INTERVAL) {
+                    hitPlayer(true);
+                    timeSinceLastEnemyHit = 0;
+                }
+            }
+        } else {
+            isCollidingWithEnemy = false;
+        }
+    }
+
+    /**
+     * Takes a life when the player steps onto a trap, and again every few seconds while the player stays on it.
+     */
+    private void handleTrapCollision(float deltaTime) {
+        if (world.collusionWithTrap(player.getX(), player.getY())) {
+            if (!isCollidingWithTrap) {
+                hitPlayer(false);
+                timeSinceLastTrapHit = 0;
+                isCollidingWithTrap = true;
+            } else {
+                timeSinceLastTrapHit += deltaTime;
+                if (timeSinceLastTrapHit >= HIT_REPEAT_INTERVAL) {
+                    hitPlayer(false);
+                    timeSinceLastTrapHit = 0;
+                }
+            }
+        } else {
+            isCollidingWithTrap = false;
+        }
+    }
+
+    /**
+     * Picks up an extra life under the player. It is removed from the map even if the player already has all lives.
+     */
+    private void handleExtraLifeCollision() {
+        int tileX = world.toCharacterTileX(player.getX());
+        int tileY = world.toCharacterTileY(player.getY());
+        if (world.getTileType(tileX, tileY) == MapData.EXTRA_LIFE) {
+            world.removeTileAt(tileX, tileY);
+            listener.extraLifeCollected();
+            if (player.gainLife()) {
+                listener.livesChanged(player.getLives());
+            }
+        }
+    }
+
+    /**
+     * Lets the player lose a life (unless the cooldown of the last one still runs) and ends the game at 0 lives.
+     */
+    private void hitPlayer(boolean byEnemy) {
+        if (byEnemy) {
+            listener.enemyHit();
+        } else {
+            listener.trapHit();
+        }
+        if (player.loseLife()) {
+            listener.livesChanged(player.getLives());
+            if (player.getLives() == 0) {
+                end(State.LOST);
+            }
+        }
+    }
+
+    private void end(State result) {
+        if (state != State.RUNNING) {
+            return;
+        }
+        state = result;
+        if (result == State.WON) {
+            listener.won();
+        } else {
+            listener.lost();
+        }
+    }
+
+    /**
+     * Pauses or resumes the countdown timer, e.g. while the menu is open.
+     *
+     * @param timerPaused {@code true} to stop the timer.
+     */
+    public void setTimerPaused(boolean timerPaused) {
+        this.timerPaused = timerPaused;
+    }
+
+    public MazeWorld getWorld() {
+        return world;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public int getSecondsLeft() {
+        return secondsLeft;
+    }
+
+    /**
+     * Returns the simulated time since the start of the game.
+     *
+     * @return The simulated time in seconds.
+     */
+    public float getElapsedTime() {
+        return elapsedTime;
+    }
+}
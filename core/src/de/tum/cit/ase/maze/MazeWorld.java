@@ -0,0 +1,622 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongArray;
+
+import java.awt.*;
+import java.util.Random;
+
+/**
+ * The map of the simulation: the tile grid with its collision masks, the index of the special tiles, the pickups and
+ * the enemies with their spatial hash. It answers all collision queries of the game and does not depend on any libGDX
+ * graphics or file API, so it can be created from a {@link MapData} without a GL context, e.g. in headless simulations.
+ * The {@link GameMap} draws it; it is told about changed tiles through a {@link TileListener}.
+ */
+public class MazeWorld {
+    public static final int TILE_SIZE = 16; // very often used for calculations
+    // offset to center the 16x16 collision box within the 34x32 character sprite
+    public static final float COLLISION_OFFSET_X = (34 - 16) / 2f;
+    public static final float COLLISION_OFFSET_Y = (32 - 16) / 2f;
+    static final long MAX_FLAT_TILES = 64L * 1024 * 1024; // larger maps are paged in regions
+    private static final int MAX_RESIDENT_REGIONS = 64; // 64 regions of 64x64 tiles stay in memory at most
+    private static final int EXTRA_LIVES = 2;
+    private static final int EXTRA_LIFE_ATTEMPTS = 1000; // random tiles tried before the free tiles are scanned
+
+    /**
+     * Gets told whenever a tile of the world changes, e.g. to rebuild the drawn version of it.
+     */
+    public interface TileListener {
+        /**
+         * Called after a tile changed.
+         *
+         * @param x       The x-coordinate of the tile.
+         * @param y       The y-coordinate of the tile.
+         * @param oldType The previous tile type.
+         * @param newType The new tile type.
+         */
+        void tileChanged(int x, int y, byte oldType, byte newType);
+    }
+
+    //tile types of the map, one byte per tile (paged in regions for maps that are too large for one array)
+    private final TileGrid tiles;
+    private final TileSource layout; // the map as it was loaded, without the changes made since
+    private final int width;
+    private final int height;
+    private Array<Enemy> enemies = new Array<>(); // Enemy movement
+    private final EnemySpatialHash enemyHash = new EnemySpatialHash(); // enemies sorted into buckets for collision queries
+    private TileFlags tileFlags; // collision masks, null for maps that are paged in regions
+    private final SpecialTileIndex specialTiles; // positions of entries, exits, traps, keys and extra lives
+    private final Array<TileListener> tileListeners = new Array<>(false, 2);
+    private Pathfinder pathfinder = Pathfinder.A_STAR; // the algorithm used for paths on this map
+    private JumpTable jumpTable; // built for the first jump point search
+    private int walkableVersion; // counts the changes of walkable tiles, to detect them during a build
+    private ClusterGraph clusterGraph; // built for the first hierarchical search, patched when tiles change
+
+    /**
+     * Creates the world of a map layout, with its enemies, and places the extra lives at random free tiles. Layouts
+     * with more than {@link #MAX_FLAT_TILES} tiles are paged in regions, so they can come from a source that is not
+     * in memory either, like a {@link MappedTileSource}; such a layout is only read region by region, its special
+     * tiles and enemy spawns are taken from {@link TileSource#getPositions(byte)}.
+     *
+     * @param layout The map layout, e.g. a parsed {@link MapData}.
+     * @param random The random generator used to place the extra lives.
+     */
+    public MazeWorld(TileSource layout, Random random) {
+        this.layout = layout;
+        width = layout.getWidth();
+        height = layout.getHeight();
+        if ((long) width * height <= MAX_FLAT_TILES) {
+            FlatTileGrid flatTiles = new FlatTileGrid(layout);
+            tiles = flatTiles;
+            tileFlags = new TileFlags(flatTiles.getTiles(), width, height);
+        } else {
+            tiles = new RegionPagedWorld(layout, MAX_RESIDENT_REGIONS);
+        }
+        specialTiles = new SpecialTileIndex(width);
+        indexLayout(random);
+    }
+
+    /**
+     * Indexes the special tiles of the layout, creates its enemies and places extra lives at random free tiles. The
+     * positions of the special tiles and enemy spawns are taken from the layout; only a layout that does not know
+     * them, e.g. a {@code .maze} file of version 1, is scanned for them.
+     *
+     * @param random The random generator used to pick the tiles of the extra lives.
+     */
+    private void indexLayout(Random random) {
+        long[] spawns = layout.getPositions(MapData.ENEMY);
+        if (spawns != null) {
+            for (byte tileType : new byte[]{MapData.ENTRY, MapData.EXIT, MapData.TRAP, MapData.KEY}) {
+                specialTiles.addAll(tileType, layout.getPositions(tileType));
+            }
+            for (long position : spawns) {
+                addEnemy((int) (position % width), (int) (position / width));
+            }
+        } else {
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    byte tileType = layout.getTile(x, y);
+                    if (tileType == MapData.ENEMY) {
+                        addEnemy(x, y);
+                    } else if (tileType != MapData.EMPTY) {
+                        specialTiles.add(tileType, x, y); // walls are not indexed
+                    }
+                }
+            }
+        }
+        placeExtraLives(random);
+    }
+
+    /**
+     * Creates an enemy at its spawn tile. Enemies are not part of the grid.
+     */
+    private void addEnemy(int x, int y) {
+        Enemy enemy = new Enemy(x, y);
+        enemies.add(enemy);
+        enemyHash.add(enemy);
+    }
+
+    /**
+     * Places extra lives on the map at random free tiles. Random tiles are drawn until a free one is hit, which takes
+     * only a few tries in a real maze; if that keeps failing, e.g. on a map of almost only walls, the remaining lives
+     * are sampled in one pass over the layout. Layouts that are paged in regions are not scanned, they just get fewer
+     * extra lives then.
+     *
+     * @param random The random generator used to pick the tiles.
+     */
+    private void placeExtraLives(Random random) {
+        int placed = 0;
+        if (width > 0 && height > 0) {
+            for (int attempt = 0; attempt < EXTRA_LIFE_ATTEMPTS && placed < EXTRA_LIVES; attempt++) {
+                int x = random.nextInt(width);
+                int y = random.nextInt(height);
+                if (isFreeForExtraLife(x, y)) {
+                    placeExtraLife(x, y);
+                    placed++;
+                }
+            }
+        }
+        if (placed == EXTRA_LIVES || tiles instanceof RegionPagedWorld) {
+            return;
+        }
+
+        int missing = EXTRA_LIVES - placed;
+        int[] chosenX = new int[missing];
+        int[] chosenY = new int[missing];
+        int freeTiles = 0;
+        // Pick random free tiles in one pass over the layout (reservoir sampling), without collecting all free tiles
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (!isFreeForExtraLife(x, y)) {
+                    continue;
+                }
+                int slot = freeTiles < missing ? freeTiles : random.nextInt(freeTiles + 1);
+                if (slot < missing) {
+                    chosenX[slot] = x;
+                    chosenY[slot] = y;
+                }
+                freeTiles++;
+            }
+        }
+        for (int i = 0; i < Math.min(freeTiles, missing); i++) {
+            placeExtraLife(chosenX[i], chosenY[i]);
+        }
+    }
+
+    /**
+     * Returns whether an extra life can be placed on a tile: nothing is placed there in the layout (enemies start on
+     * path tiles) and it does not hold an extra life yet.
+     */
+    private boolean isFreeForExtraLife(int x, int y) {
+        byte tileType = layout.getTile(x, y);
+        return (tileType == MapData.EMPTY || tileType == MapData.ENEMY) && tiles.get(x, y) != MapData.EXTRA_LIFE;
+    }
+
+    private void placeExtraLife(int x, int y) {
+        setTile(x, y, MapData.EXTRA_LIFE);
+        specialTiles.add(MapData.EXTRA_LIFE, x, y);
+    }
+
+    /**
+     * Adds a listener that is told about changed tiles.
+     *
+     * @param tileListener The listener.
+     */
+    public void addTileListener(TileListener tileListener) {
+        tileListeners.add(tileListener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addTileListener(TileListener)}.
+     *
+     * @param tileListener The listener.
+     */
+    public void removeTileListener(TileListener tileListener) {
+        tileListeners.removeValue(tileListener, true);
+    }
+
+    /**
+     * Returns the tile type at the specified coordinates.
+     *
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     * @return The tile type (see {@link MapData}), or {@link MapData#EMPTY} if the location is empty or outside of the map.
+     */
+    public byte getTileType(int x, int y) {
+        return tiles.get(x, y);
+    }
+
+    /**
+     * Removes the tile at the specified coordinates (e.g. a collected key or extra life), leaving plain path.
+     *
+     * @param x The x-coordinate of the location to clear.
+     * @param y The y-coordinate of the location to clear.
+     */
+    public void removeTileAt(int x, int y) {
+        specialTiles.remove(tiles.get(x, y), x, y);
+        setTile(x, y, MapData.EMPTY);
+    }
+
+    /**
+     * Changes the tile type at the given coordinates and keeps the collision masks up to date.
+     */
+    private void setTile(int x, int y, byte tileType) {
+        byte oldType = tiles.get(x, y);
+        tiles.set(x, y, tileType);
+        if (tileFlags != null) {
+            tileFlags.update(x, y, tileType);
+        }
+        if (((TileFlags.forType(oldType) ^ TileFlags.forType(tileType)) & TileFlags.BLOCKED) != 0) {
+            walkableTilesChanged(x, y);
+        }
+        for (int i = 0; i < tileListeners.size; i++) {
+            tileListeners.get(i).tileChanged(x, y, oldType, tileType);
+        }
+    }
+
+    /**
+     * Drops the jump table and patches the cluster graph after a tile became walkable or blocked. This happens under
+     * the same lock as their lazy builds, so a build that is running meanwhile cannot publish a stale result.
+     */
+    private synchronized void walkableTilesChanged(int x, int y) {
+        walkableVersion++;
+        jumpTable = null; // the jumps depend on the walkable tiles
+        if (clusterGraph != null) {
+            clusterGraph.tileChanged(x, y);
+        }
+    }
+
+    /**
+     * Returns the collision flags of the tile at the specified coordinates as one packed word,
+     * see {@link TileFlags#BLOCKED}, {@link TileFlags#HAZARD}, {@link TileFlags#PICKUP}, {@link TileFlags#KEY} and {@link TileFlags#EXIT}.
+     * All collision checks of the map go through this method.
+     *
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     * @return The flags of the tile, 0 if the tile is empty or outside of the map.
+     */
+    public int queryTile(int x, int y) {
+        if (tileFlags != null) {
+            return tileFlags.query(x, y);
+        }
+        return TileFlags.forType(tiles.get(x, y)); // paged maps derive the flags from the tile type
+    }
+
+    /**
+     * Returns the x-coordinate of the tile under the character's collision box.
+     *
+     * @param x The x-coordinate in the game world.
+     * @return The tile x-coordinate.
+     */
+    public int toCharacterTileX(float x) {
+        return (int) ((x + COLLISION_OFFSET_X) / TILE_SIZE);
+    }
+
+    /**
+     * Returns the y-coordinate of the tile under the character's collision box.
+     *
+     * @param y The y-coordinate in the game world.
+     * @return The tile y-coordinate.
+     */
+    public int toCharacterTileY(float y) {
+        return (int) ((y + COLLISION_OFFSET_Y) / TILE_SIZE);
+    }
+
+    /**
+     * Returns the collision flags of the tile under the character's collision box at the given game world coordinates.
+     */
+    private int queryCharacterTile(float x, float y) {
+        return queryTile(toCharacterTileX(x), toCharacterTileY(y));
+    }
+
+    /**
+     * Checks if the specified cell is blocked by a non-walkable tile.
+     * This method is crucial for collision detection and movement mechanics, ensuring characters do not walk through walls or other barriers.
+     *
+     * @param x X-coordinate in the game world.
+     * @param y Y-coordinate in the game world.
+     * @return true if the cell is blocked, false otherwise.
+     */
+    //method prevent character from moving through walls
+    public boolean isCellBlocked(float x, float y){
+
+        // Calculate the offset to center the 16x16 collision box within the 34x32 sprite
+        float tileX = (x + COLLISION_OFFSET_X) / TILE_SIZE;
+        float tileY = (y + COLLISION_OFFSET_Y) / TILE_SIZE;
+
+        //check maze bounds
+        if (tileX <= 0 || tileX >= width || tileY <= 0|| tileY >= height) {
+            return true;
+        }
+
+        //check for non-walkable tiles
+        return (queryTile((int)tileX, (int)tileY) & TileFlags.BLOCKED) != 0;
+    }
+
+    /**
+     * Checks if the specified cell is free of any non-walkable tiles. It is used for the A* pathfinding algorithm because isCellBlocked()
+     * does not work properly in this context.
+     *
+     * @param x X-coordinate in the tile grid.
+     * @param y Y-coordinate in the tile grid.
+     * @return true if the cell is free, false otherwise.
+     */
+    public boolean isCellfree(int x, int y){
+        if (x <= 0 || x >= width || y <= 0|| y >= height) {
+            return false;
+        }
+        //check for non-walkable tiles
+        return (queryTile(x, y) & TileFlags.BLOCKED) == 0;
+    }
+
+    /**
+     * Detects collisions with traps at the specified game world coordinates.
+     *
+     * @param x The x-coordinate in the game world.
+     * @param y The y-coordinate in the game world.
+     * @return {@code true} if there is a collision with a trap at the specified coordinates, {@code false} otherwise.
+     */
+    public boolean collusionWithTrap(float x, float y){
+        return (queryCharacterTile(x, y) & TileFlags.HAZARD) != 0;
+    }
+
+    /**
+     * Detects collisions with a key at the specified game world coordinates.
+     *
+     * @param x The x-coordinate in the game world.
+     * @param y The y-coordinate in the game world.
+     * @return {@code true} if there is a collision with a key at the specified coordinates, {@code false} otherwise.
+     */
+    public boolean collusionWithKey(float x, float y){
+        return (queryCharacterTile(x, y) & TileFlags.KEY) != 0;
+    }
+
+    /**
+     * Checks for collisions with an exit at the specified game world coordinates.
+     *
+     * @param x The x-coordinate in the game world.
+     * @param y The y-coordinate in the game world.
+     * @return {@code true} if there is a collision with an exit at the specified coordinates, {@code false} otherwise.
+     */
+    public boolean collusionWithExit(float x, float y){
+        return (queryCharacterTile(x, y) & TileFlags.EXIT) != 0;
+    }
+
+    /**
+     * Detects collisions between the character and any enemy.
+     *
+     * @param x The x-coordinate in the game world where the character is located.
+     * @param y The y-coordinate in the game world where the character is located.
+     * @return {@code true} if the character is colliding with an enemy, {@code false} otherwise.
+     */
+    public boolean collusionWithEnemy(float x, float y){
+
+        float characterWidth = 8; // Width of the character's collision box
+        float characterHeight = 10; // Height of the character's collision box
+        float enemyWidth = 8; // Slightly larger width for the enemy's collision box
+        float enemyHeight = 10; // Slightly larger height for the enemy's collision box
+
+        // Both collision boxes are centered in their tile, so they overlap when the positions are closer than half of both sizes.
+        // Only the enemies in the buckets around the character are checked.
+        return enemyHash.overlapsAny(x / TILE_SIZE, y / TILE_SIZE,
+                (characterWidth + enemyWidth) / 2f / TILE_SIZE,
+                (characterHeight + enemyHeight) / 2f / TILE_SIZE);
+    }
+
+    /**
+     * Collects the enemies within the given radius of a position, only looking at the enemies close to it.
+     *
+     * @param x      The x-coordinate in tiles.
+     * @param y      The y-coordinate in tiles.
+     * @param radius The radius in tiles.
+     * @param result The array the enemies are written to, it is cleared first.
+     * @return The number of enemies found.
+     */
+    public int findEnemiesInRange(float x, float y, float radius, Array<Enemy> result) {
+        return enemyHash.findInRadius(x, y, radius, result);
+    }
+
+    /**
+     * Moves an enemy to its new bucket in the spatial hash. Has to be called whenever an enemy changed its position.
+     *
+     * @param enemy The enemy that moved.
+     */
+    public void enemyMoved(Enemy enemy) {
+        enemyHash.update(enemy);
+    }
+
+    /**
+     * Finds the entry point in the map and returns its coordinates in the game world.
+     *
+     * @return A {@code Point} object representing the coordinates of the entry point, or {@code null} if not found.
+     */
+    public Point findEntry() {
+        return toPoint(specialTiles.first(MapData.ENTRY));
+    }
+
+    /**
+     * Locates the key within the map and returns its coordinates in the game world.
+     *
+     * @return A {@code Point} object representing the coordinates of the key, or {@code null} if not found.
+     */
+    public Point findKey() {
+        return toPoint(specialTiles.first(MapData.KEY));
+    }
+
+    /**
+     * Finds the exit that is closest to the given position, e.g. to point the player to the nearest way out on maps with several exits.
+     * Only the exits are looked at, not the whole map.
+     *
+     * @param x The x-coordinate in the game world.
+     * @param y The y-coordinate in the game world.
+     * @return A {@code Point} object representing the coordinates of the nearest exit, or {@code null} if the map has no exit.
+     */
+    public Point findNearestExit(float x, float y) {
+        return toPoint(specialTiles.nearest(MapData.EXIT, (int) (x / TILE_SIZE), (int) (y / TILE_SIZE)));
+    }
+
+    /**
+     * Returns the positions of all special tiles of the given type (entries, exits, traps, keys and extra lives).
+     * The returned array is not copied and must not be modified.
+     *
+     * @param tileType The tile type, see {@link MapData}.
+     * @return The row-major tile indices ({@code (long) y * getWidth() + x}), or {@code null} if tiles of this type
+     *         are not indexed.
+     */
+    public LongArray getSpecialTilePositions(byte tileType) {
+        return specialTiles.getPositions(tileType);
+    }
+
+    /**
+     * Converts a row-major tile index into the coordinates of the tile in the game world.
+     */
+    private Point toPoint(long position) {
+        if (position < 0) {
+            return null; //if not found
+        }
+        return new Point((int) (position % width) * TILE_SIZE, (int) (position / width) * TILE_SIZE); // Point is a simple class holding x and y integers
+    }
+
+    /**
+     * Determines the neighboring cells of a given tile that are not blocked and can be moved to.
+     * It is used by the pathfinding (intelligent enemy movement) that avoids obstacles.
+     *
+     * @param x      The x-coordinate of the tile.
+     * @param y      The y-coordinate of the tile.
+     * @param result The array the accessible neighboring tiles are written to as {@code (long) y * getWidth() + x},
+     *               it is cleared first.
+     * @return The number of neighbors found.
+     */
+    public int getNeighbors(int x, int y, LongArray result) {
+        result.clear();
+        long tile = (long) y * width + x;
+        // Add neighbors (left, right, down, up) if they are inside the maze and not blocked
+        if (x > 0 && isCellfree(x - 1, y)) { //left
+            result.add(tile - 1);
+        }
+        if (x < width - 1 && isCellfree(x + 1, y)) { //right
+            result.add(tile + 1);
+        }
+        if (y > 0 && isCellfree(x, y - 1)) { //down
+            result.add(tile - width);
+        }
+        if (y < height - 1 && isCellfree(x, y + 1)) { //up
+            result.add(tile + width);
+        }
+        return result.size;
+    }
+
+    /**
+     * Returns the layout the world was created from, without the changes made since (e.g. collected keys) and without
+     * the extra lives. Reading it never pages regions of large maps in or out.
+     *
+     * @return The map layout.
+     */
+    public TileSource getLayout() {
+        return layout;
+    }
+
+    /**
+     * Finds the shortest path between two tiles with the pathfinding algorithm chosen for this map.
+     *
+     * @param startX The x-coordinate of the start tile.
+     * @param startY The y-coordinate of the start tile.
+     * @param endX   The x-coordinate of the end tile.
+     * @param endY   The y-coordinate of the end tile.
+     * @param path   Cleared and filled with every tile of the path as {@code (long) y * getWidth() + x}, from the
+     *               start to the end tile, both included. Stays empty if no path is found.
+     * @return {@code true} if a path was found.
+     */
+    public boolean findPath(int startX, int startY, int endX, int endY, LongArray path) {
+        return pathfinder.findPath(this, startX, startY, endX, endY, path);
+    }
+
+    public Pathfinder getPathfinder() {
+        return pathfinder;
+    }
+
+    /**
+     * Returns the precomputed jumps of {@link JumpPointSearch} for this map, built on the first call.
+     *
+     * @return The jump table, or {@code null} if the map is larger than the first search window and is searched with
+     *         A* instead.
+     */
+    JumpTable getJumpTable() {
+        if ((long) width * height > GridSearch.FIRST_WINDOW_TILES) {
+            return null;
+        }
+        while (true) {
+            int version;
+            synchronized (this) {
+                if (jumpTable != null) {
+                    return jumpTable;
+                }
+                version = walkableVersion;
+            }
+            // built outside of the lock, so changing tiles does not wait for it
+            JumpTable table = new JumpTable(this);
+            synchronized (this) {
+                if (version == walkableVersion) {
+                    jumpTable = table;
+                    return table;
+                }
+            }
+            // a tile became walkable or blocked during the build, build again
+        }
+    }
+
+    /**
+     * Returns the cluster graph of {@link HierarchicalPathfinding} for this map, built on the first call.
+     *
+     * @return The cluster graph.
+     */
+    synchronized ClusterGraph getClusterGraph() {
+        if (clusterGraph == null) {
+            clusterGraph = new ClusterGraph(this);
+        }
+        return clusterGraph;
+    }
+
+    /**
+     * Chooses the pathfinding algorithm of this map, e.g. Jump Point Search for maps with large open areas or
+     * hierarchical pathfinding for very large maps. The cluster graph of hierarchical pathfinding is built right
+     * away, so that it is part of loading the map and not of the first search.
+     *
+     * @param pathfinder The pathfinding algorithm, A* by default.
+     */
+    public void setPathfinder(Pathfinder pathfinder) {
+        this.pathfinder = pathfinder;
+        if (pathfinder == Pathfinder.HIERARCHICAL) {
+            getClusterGraph();
+        }
+    }
+
+    /**
+     * Returns the tile grid of the world, e.g. to draw it or to page in regions of large maps.
+     *
+     * @return The tile grid.
+     */
+    public TileGrid getTiles() {
+        return tiles;
+    }
+
+    /**
+     * Returns the width of the map in tiles.
+     *
+     * @return The width of the map.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the map in tiles.
+     *
+     * @return The height of the map.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Retrieves the list of enemies currently present in the world.
+     *
+     * @return An {@code Array} of {@code Enemy} objects representing all the enemies in the world.
+     */
+    public Array<Enemy> getEnemies() {
+        return enemies;
+    }
+
+    /**
+     * Sets the list of enemies in the world and sorts them into the spatial hash.
+     *
+     * @param enemies An {@code Array} of {@code Enemy} objects to be set as the current enemies.
+     */
+    public void setEnemies(Array<Enemy> enemies) {
+        this.enemies = enemies;
+        enemyHash.clear();
+        for (Enemy enemy : enemies) {
+            enemyHash.add(enemy);
+        }
+    }
+}
@@ -93,6 +93,7 @@ public void changed(ChangeEvent event, Actor actor) {
 
     /**
      * Renders the menu screen and updates its UI elements.
+     * While the menu is shown this is only called on demand, see {@link #show()}.
      *
      * @param delta The time in seconds since the last render.
      */
@@ -129,11 +130,16 @@ public void dispose() {
 
     /**
      * Called when the menu screen becomes the current screen for a {@link com.badlogic.gdx.Game}.
+     * The menu is static, so continuous rendering is turned off: a frame is only rendered when an input event arrives,
+     * the window changes, a runnable is posted or an actor of the stage has running actions. This is also the paused
+     * state of a game, as pressing ESC during a game shows the menu.
      */
     @Override
     public void show() {
         // Set the input processor so the stage can receive input events
         Gdx.input.setInputProcessor(stage);
+        Gdx.graphics.setContinuousRendering(false);
+        Gdx.graphics.requestRendering(); // draw the menu once
     }
 
     // The following methods are part of the Screen interface but are not used in this screen.
@@ -153,8 +159,10 @@ public void resume() {
 
     /**
      * Hides the menu screen. This method is called when the screen is no longer the current screen.
+     * Turns continuous rendering back on for the loading and game screens.
      */
     @Override
     public void hide() {
+        Gdx.graphics.setContinuousRendering(true);
     }
 }
\ No newline at end of file
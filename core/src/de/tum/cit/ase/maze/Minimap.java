@@ -0,0 +1,272 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongArray;
+
+/**
+ * A HUD overlay that shows the whole maze. The texture is generated once from the tile types (one pixel per tile, or
+ * per block of tiles on maps larger than {@link #MAX_TEXTURE_SIZE}, showing one sample tile of the block and the
+ * special tiles in it); when a tile changes, e.g. a key is collected, only its pixel is patched in the {@link Pixmap}
+ * and uploaded as a single-pixel update. The character, the nearest enemies
+ * and the exits are drawn as markers on top. Drawing costs one texture quad plus a bounded number of markers per
+ * frame, independent of the size of the map.
+ */
+public class Minimap extends Actor implements Disposable, MazeWorld.TileListener {
+    public static final float MAX_SIZE = 200; // on screen, in pixels
+    private static final int MAX_TEXTURE_SIZE = 2048; // larger maps are shown with several tiles per pixel
+    private static final int MAX_ENEMY_MARKERS = 32;
+    private static final int MAX_EXIT_MARKERS = 16;
+    private static final float ENEMY_MARKER_RADIUS = 32; // enemies within this many tiles of the character are shown
+    private static final float MARKER_SIZE = 4; // on screen, in pixels
+    // special tiles that are drawn into the texture, exits are shown as markers
+    private static final byte[] SHOWN_TYPES = {MapData.ENTRY, MapData.TRAP, MapData.KEY, MapData.EXTRA_LIFE};
+
+    // Colors of the tile types, RGBA8888
+    private static final int PATH_COLOR = Color.rgba8888(0.25f, 0.25f, 0.25f, 0.85f);
+    private static final int WALL_COLOR = Color.rgba8888(0.75f, 0.75f, 0.75f, 0.85f);
+    private static final int ENTRY_COLOR = Color.rgba8888(0.3f, 0.5f, 1f, 1f);
+    private static final int TRAP_COLOR = Color.rgba8888(0.8f, 0.2f, 0.2f, 1f);
+    private static final int KEY_COLOR = Color.rgba8888(1f, 0.85f, 0f, 1f);
+    private static final int EXTRA_LIFE_COLOR = Color.rgba8888(1f, 0.4f, 0.7f, 1f);
+    // Colors of the markers
+    private static final Color CHARACTER_MARKER = Color.WHITE;
+    private static final Color ENEMY_MARKER = Color.RED;
+    private static final Color EXIT_MARKER = Color.GREEN;
+
+    private final MazeWorld world;
+    private final Player player;
+    private final int tilesPerPixel;
+    private final Pixmap pixmap; // kept to patch single pixels and as the backing data of the texture
+    private final Pixmap pixel = new Pixmap(1, 1, Pixmap.Format.RGBA8888); // upload buffer of a patched pixel
+    private final Texture texture;
+    private final Texture white; // 1x1 white texture, tinted for the markers
+    private final LongArray exitPositions = new LongArray(); // the exits never change, copied once
+    private final Array<Enemy> nearbyEnemies = new Array<>(false, MAX_ENEMY_MARKERS); // reused every frame
+
+    /**
+     * Generates the minimap of a world and starts listening for changed tiles.
+     *
+     * @param world  The world to show.
+     * @param player The player, shown as a marker.
+     */
+    public Minimap(MazeWorld world, Player player) {
+        this.world = world;
+        this.player = player;
+        int largestSide = Math.max(world.getWidth(), world.getHeight());
+        tilesPerPixel = Math.max(1, (largestSide + MAX_TEXTURE_SIZE - 1) / MAX_TEXTURE_SIZE); // at least 1 for empty maps
+        pixmap = new Pixmap(Math.max(1, toPixel(world.getWidth() - 1) + 1), Math.max(1, toPixel(world.getHeight() - 1) + 1),
+                Pixmap.Format.RGBA8888);
+        pixmap.setBlending(Pixmap.Blending.None);
+        pixel.setBlending(Pixmap.Blending.None);
+        generate();
+        texture = new Texture(pixmap);
+
+        Pixmap whitePixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        whitePixmap.setColor(Color.WHITE);
+        whitePixmap.fill();
+        white = new Texture(whitePixmap);
+        whitePixmap.dispose();
+
+        LongArray exits = world.getSpecialTilePositions(MapData.EXIT);
+        for (int i = 0; i < Math.min(exits.size, MAX_EXIT_MARKERS); i++) {
+            exitPositions.add(exits.get(i));
+        }
+
+        // fit the map into a MAX_SIZE square, keeping its aspect ratio
+        float scale = MAX_SIZE / Math.max(pixmap.getWidth(), pixmap.getHeight());
+        setSize(pixmap.getWidth() * scale, pixmap.getHeight() * scale);
+        world.addTileListener(this);
+    }
+
+    /**
+     * Fills the pixmap from the layout of the map and the special tiles of the world. Each pixel shows the sample tile
+     * of its block (the tile itself if the map fits into the texture), so the layout is read once per pixel and not
+     * once per tile; reading the layout instead of the tile grid also keeps large maps from being paged in. The
+     * entries, traps, keys and extra lives are then drawn from the index of the world, wherever they are in a block.
+     */
+    private void generate() {
+        pixmap.setColor(PATH_COLOR);
+        pixmap.fill();
+        TileSource layout = world.getLayout();
+        if (layout.getWidth() > 0 && layout.getHeight() > 0) {
+            for (int pixelY = 0; pixelY < pixmap.getHeight(); pixelY++) {
+                for (int pixelX = 0; pixelX < pixmap.getWidth(); pixelX++) {
+                    byte tileType = layout.getTile(sampleX(pixelX), sampleY(pixelY));
+                    if (tileType != MapData.EMPTY && tileType != MapData.ENEMY) {
+                        pixmap.drawPixel(pixelX, flip(pixelY), colorOf(tileType));
+                    }
+                }
+            }
+        }
+        for (byte tileType : SHOWN_TYPES) {
+            LongArray positions = world.getSpecialTilePositions(tileType);
+            for (int i = 0; i < positions.size; i++) {
+                long position = positions.get(i);
+                plot((int) (position % world.getWidth()), (int) (position / world.getWidth()), tileType);
+            }
+        }
+    }
+
+    /**
+     * Colors the pixel of a tile, unless a more important tile of the same block is already shown there.
+     */
+    private void plot(int x, int y, byte tileType) {
+        int pixelX = toPixel(x), pixelY = flip(toPixel(y));
+        if (tilesPerPixel == 1 || priority(tileType) >= priority(colorToType(pixmap.getPixel(pixelX, pixelY)))) {
+            pixmap.drawPixel(pixelX, pixelY, colorOf(tileType));
+        }
+    }
+
+    /**
+     * Patches the pixel of a changed tile in the pixmap and uploads only that pixel to the texture.
+     */
+    @Override
+    public void tileChanged(int x, int y, byte oldType, byte newType) {
+        int pixelX = toPixel(x), pixelY = flip(toPixel(y));
+        int color = colorOf(newType);
+        if (tilesPerPixel > 1) {
+            // the pixel shows the most important of the sample tile and the special tiles of its block
+            byte shown = newType;
+            byte sampled = world.getTileType(sampleX(toPixel(x)), sampleY(toPixel(y)));
+            if (priority(sampled) > priority(shown)) {
+                shown = sampled;
+            }
+            for (byte tileType : SHOWN_TYPES) {
+                if (priority(tileType) > priority(shown) && hasTileInBlock(tileType, toPixel(x), toPixel(y))) {
+                    shown = tileType;
+                }
+            }
+            color = colorOf(shown);
+        }
+        if (pixmap.getPixel(pixelX, pixelY) == color) {
+            return;
+        }
+        pixmap.drawPixel(pixelX, pixelY, color);
+        pixel.drawPixel(0, 0, color);
+        texture.draw(pixel, pixelX, pixelY);
+    }
+
+    /**
+     * Draws the map texture and the markers of the exits, the enemies near the character and the character.
+     */
+    @Override
+    public void draw(Batch batch, float parentAlpha) {
+        batch.setColor(1, 1, 1, parentAlpha);
+        batch.draw(texture, getX(), getY(), getWidth(), getHeight());
+
+        batch.setColor(EXIT_MARKER);
+        for (int i = 0; i < exitPositions.size; i++) {
+            drawMarker(batch, exitPositions.get(i) % world.getWidth(), exitPositions.get(i) / world.getWidth());
+        }
+
+        // only the enemies around the character, found through the spatial hash
+        float playerTileX = world.toCharacterTileX(player.getX());
+        float playerTileY = world.toCharacterTileY(player.getY());
+        world.findEnemiesInRange(playerTileX, playerTileY, ENEMY_MARKER_RADIUS, nearbyEnemies);
+        batch.setColor(ENEMY_MARKER);
+        for (int i = 0; i < Math.min(nearbyEnemies.size, MAX_ENEMY_MARKERS); i++) {
+            drawMarker(batch, nearbyEnemies.get(i).getX(), nearbyEnemies.get(i).getY());
+        }
+        nearbyEnemies.clear(); // do not keep enemies of an old map alive
+
+        batch.setColor(CHARACTER_MARKER);
+        drawMarker(batch, playerTileX, playerTileY);
+        batch.setColor(Color.WHITE);
+    }
+
+    /**
+     * Draws a marker centered on a tile.
+     */
+    private void drawMarker(Batch batch, float tileX, float tileY) {
+        float x = getX() + (tileX + 0.5f) / world.getWidth() * getWidth() - MARKER_SIZE / 2;
+        float y = getY() + (tileY + 0.5f) / world.getHeight() * getHeight() - MARKER_SIZE / 2;
+        batch.draw(white, x, y, MARKER_SIZE, MARKER_SIZE);
+    }
+
+    /**
+     * Returns whether the index of the world has a tile of the given type in the block of a pixel.
+     */
+    private boolean hasTileInBlock(byte tileType, int pixelX, int pixelY) {
+        LongArray positions = world.getSpecialTilePositions(tileType);
+        for (int i = 0; i < positions.size; i++) {
+            if (toPixel((int) (positions.get(i) % world.getWidth())) == pixelX
+                    && toPixel((int) (positions.get(i) / world.getWidth())) == pixelY) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int toPixel(int tile) {
+        return tile / tilesPerPixel;
+    }
+
+    /**
+     * Returns the x-coordinate of the tile a pixel shows: the middle of its block, inside the map.
+     */
+    private int sampleX(int pixelX) {
+        return (int) Math.min((long) pixelX * tilesPerPixel + tilesPerPixel / 2, world.getWidth() - 1);
+    }
+
+    private int sampleY(int pixelY) {
+        return (int) Math.min((long) pixelY * tilesPerPixel + tilesPerPixel / 2, world.getHeight() - 1);
+    }
+
+    /**
+     * Pixmap rows go from top to bottom, tile rows from bottom to top.
+     */
+    private int flip(int pixelY) {
+        return pixmap.getHeight() - 1 - pixelY;
+    }
+
+    private static int colorOf(byte tileType) {
+        return switch (tileType) {
+            case MapData.WALL -> WALL_COLOR;
+            case MapData.ENTRY -> ENTRY_COLOR;
+            case MapData.TRAP -> TRAP_COLOR;
+            case MapData.KEY -> KEY_COLOR;
+            case MapData.EXTRA_LIFE -> EXTRA_LIFE_COLOR;
+            default -> PATH_COLOR; // exits are shown as markers
+        };
+    }
+
+    private static byte colorToType(int color) {
+        if (color == WALL_COLOR) return MapData.WALL;
+        if (color == ENTRY_COLOR) return MapData.ENTRY;
+        if (color == TRAP_COLOR) return MapData.TRAP;
+        if (color == KEY_COLOR) return MapData.KEY;
+        if (color == EXTRA_LIFE_COLOR) return MapData.EXTRA_LIFE;
+        return MapData.EMPTY;
+    }
+
+    /**
+     * Which tile a pixel shows when several tiles share it: pickups over entries and traps over walls over path.
+     */
+    private static int priority(byte tileType) {
+        return switch (tileType) {
+            case MapData.WALL -> 1;
+            case MapData.TRAP -> 2;
+            case MapData.ENTRY -> 3;
+            case MapData.KEY, MapData.EXTRA_LIFE -> 4;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Stops listening to the world and releases the textures and pixmaps.
+     */
+    @Override
+    public void dispose() {
+        world.removeTileListener(this);
+        texture.dispose();
+        white.dispose();
+        pixmap.dispose();
+        pixel.dispose();
+    }
+}
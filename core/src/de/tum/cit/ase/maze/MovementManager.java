@@ -2,215 +2,116 @@
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 
-import java.awt.*;
-
 /**
- * The {@code MovementManager} class is responsible for managing the movement and interactions
- * of the player's character within the game. It handles input from the player, checks for collisions
- * with game objects such as keys, traps, and enemies, and manages the consequences of these interactions.
+ * The {@code MovementManager} class connects the {@link MazeSimulation} to the player and the screen. It turns the
+ * keyboard input into the direction the player moves in, and reacts to the events of the simulation (pickups, hits,
+ * winning and losing) by playing sounds and updating the HUD.
  */
-public class MovementManager {
-    private Character character;
-    private GameMap gameMap;
+public class MovementManager implements SimulationListener {
     private Hud hud;
     private boolean isPaused;
-    private Key key;
     private MazeRunnerGame game;
-    private float timeSinceLastSound = 0;
-    private boolean isCollidingWithHazard = false;
-    private float timeSinceLastTrapSound = 0;
-    private boolean isCollidingWithTrap = false;
 
     /**
-     * Constructs a {@code MovementManager} with the game's character, map, HUD, key, and the main game class.
+     * Constructs a {@code MovementManager} with the game's HUD and the main game class.
      *
-     * @param character The player's character.
-     * @param gameMap The game map.
      * @param hud The heads-up display showing game information.
-     * @param key The key object within the game.
      * @param game The main game class, used to access shared resources and methods.
      */
 
-    public MovementManager(Character character, GameMap gameMap, Hud hud, Key key, MazeRunnerGame game) {
-        this.character = character;
-        this.gameMap = gameMap;
+    public MovementManager(Hud hud, MazeRunnerGame game) {
         this.game = game;
         this.hud = hud;
-        this.key = key;
         this.isPaused = false;
 
     }
 
     /**
-     * Handles keyboard input from the player to move the character and performs actions
-     * based on the character's interactions with the game environment, such as collecting
-     * keys or reaching the game's exit point.
+     * Reads the arrow keys and returns the direction the player wants to move in for the next simulation tick.
+     *
+     * @return The direction, or {@code null} if no arrow key is pressed or the game is paused.
      */
-    public void handleInput() {
-        if (isPaused) return;
-        float nextX = character.getX();
-        float nextY = character.getY();
-        checkWinCondition();
-
-        boolean moved = false;
+    public Player.Direction readInput() {
+        if (isPaused) return null;
         if (Gdx.input.isKeyPressed(Input.Keys.UP)) {
-            if (!gameMap.isCellBlocked(nextX, nextY + 13)) {
-                character.moveUp();
-                moved = true;
-
-                if (gameMap.collusionWithKey(nextX, nextY + 13)) {
-                    key.collect(gameMap);
-                    key.isCollected();
-                    hud.showKeyCollected();
-                    game.playKeyPickupSound();
-                }
-            }
-        }
-
-
-        else if (Gdx.input.isKeyPressed(Input.Keys.DOWN)) { //13+1=7+7 just different division (looks wierd otherwise)
-            if (!gameMap.isCellBlocked(nextX, nextY - 1)) {
-                character.moveDown();
-                moved = true;
-
-                if (gameMap.collusionWithKey(nextX, nextY - 1)) {
-                    key.collect(gameMap);
-                    key.isCollected();
-                    hud.showKeyCollected();
-                    game.playKeyPickupSound();
-                }
-            }
-
-        } else if (Gdx.input.isKeyPressed(Input.Keys.LEFT)) { //7 is two smaller than sprite size divided by two (origin point for collusion detection is the middle)
-            if (!gameMap.isCellBlocked(nextX - 7, nextY)) {
-                character.moveLeft();
-                moved = true;
-
-                if (gameMap.collusionWithKey(nextX - 7, nextY)) {
-                    key.collect(gameMap);
-                    key.isCollected();
-                    hud.showKeyCollected();
-                    game.playKeyPickupSound();
-                }
-            }
-
+            return Player.Direction.UP;
+        } else if (Gdx.input.isKeyPressed(Input.Keys.DOWN)) {
+            return Player.Direction.DOWN;
+        } else if (Gdx.input.isKeyPressed(Input.Keys.LEFT)) {
+            return Player.Direction.LEFT;
         } else if (Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
-            if (!gameMap.isCellBlocked(nextX + 7, nextY)) {
-                character.moveRight();
-                moved = true;
-
-                if (gameMap.collusionWithKey(nextX +7,  nextY)) {
-                    key.collect(gameMap);
-                    key.isCollected();
-                    hud.showKeyCollected();
-                    game.playKeyPickupSound();
-                }
-            }
+            return Player.Direction.RIGHT;
         }
+        return null;
+    }
 
-        if (moved) {
-            if (gameMap.collusionWithExit(character.getX(), character.getY())) {
+    /**
+     * Shows the key in the HUD and plays the pickup sound.
+     */
+    @Override
+    public void keyCollected() {
+        hud.showKeyCollected();
+        game.playKeyPickupSound();
+    }
 
-            }
+    /**
+     * Plays the sound of a collected extra life.
+     */
+    @Override
+    public void extraLifeCollected() {
+        game.playExtraLifeSound();
+    }
 
-        } else {
-            character.resetAnimationStateTime();
-        } // Reset state time if not moving
+    /**
+     * Plays the sound of an enemy hitting the character.
+     */
+    @Override
+    public void enemyHit() {
+        game.enemySound.play(1.0f);
     }
 
     /**
-     * Checks if the winning conditions of the game are met, typically by the character
-     * collecting a key and reaching the exit, and then displays the win screen.
+     * Plays the sound of a trap hitting the character.
      */
-    public void checkWinCondition() {
-        if ((character.hasKey() || key.isCollected()) && gameMap.collusionWithExit(character.getX(), character.getY())) {
-            hud.showWinScreen();
-        }
+    @Override
+    public void trapHit() {
+        game.trapSound.play();
     }
 
     /**
-     * Handles the character's collision with enemies within the game. If a collision is detected,
-     * the character loses a life and a sound effect is played. This method also implements a cooldown
-     * mechanism to avoid rapid life loss.
+     * Updates the hearts of the HUD.
      *
-     * @param deltaTime The time in seconds since the last frame.
+     * @param lives The new number of lives.
      */
-    public void handleEnemyCollusion(float deltaTime){
-        if(gameMap.collusionWithEnemy(character.getX(), character.getY())) {
-            if (!isCollidingWithHazard) {
-                character.loseLife();
-                game.enemySound.play(1.0f);
-                timeSinceLastSound = 0; // Reset the timer
-                isCollidingWithHazard = true;
-            } else {
-                timeSinceLastSound += deltaTime;
-                if (timeSinceLastSound >= 3.0f) { // 3 seconds passed
-                    game.enemySound.play(1.0f); // Play the sound again
-                    character.loseLife();
-                    timeSinceLastSound = 0; // Reset the timer
-                }
-            }
-        }
-        else {
-            // No collision is happening
-            isCollidingWithHazard = false;
-        }
-
+    @Override
+    public void livesChanged(int lives) {
+        hud.setScore(lives);
     }
 
     /**
-     * Handles the character's collision with extra life objects within the game. If a collision is detected,
-     * the character gains a life, the extra life object is removed from the game, and a sound effect is played.
+     * Updates the timer of the HUD.
+     *
+     * @param secondsLeft The remaining seconds.
      */
-    public void handleExtraLifeCollision() {
-        int tileSize = 16; // Assuming each tile is 16x16 pixels
-        float offsetX = (34 - tileSize) / 2f; // Adjust based on your character's sprite size
-        float offsetY = (32 - tileSize) / 2f; // Adjust based on your character's sprite size
-        int tileX = (int) ((character.getX() + offsetX) / tileSize);
-        int tileY = (int) ((character.getY() + offsetY) / tileSize);
-
-        GameObject gameObject = gameMap.getGameObjectAt(tileX, tileY);
-        if (gameObject instanceof ExtraLife) {
-            ExtraLife extraLife = (ExtraLife) gameObject;
-            if (!extraLife.isCollected()) { // Check if the heart has not been collected yet
-                extraLife.collect(); // Mark the heart as collected
-                game.playExtraLifeSound();
-                character.gainLife();
-                gameMap.removeGameObjectAt(tileX, tileY); // Remove the heart from the map
-            }
-        }
+    @Override
+    public void timeChanged(int secondsLeft) {
+        hud.setTime(secondsLeft);
     }
 
     /**
-     * Handles the character's collision with traps within the game. Similar to enemy collision,
-     * this method detects collision with traps, causes the character to lose a life, plays a sound effect,
-     * and implements a cooldown mechanism.
-     *
-     * @param deltaTime The time in seconds since the last frame.
+     * Displays the win screen.
      */
-    public void handleTrapCollusion(float deltaTime){
-        boolean currentlyCollidingWithTrap = gameMap.collusionWithTrap(character.getX(), character.getY());
+    @Override
+    public void won() {
+        hud.showWinScreen();
+    }
 
-        if (currentlyCollidingWithTrap) {
-            if (!isCollidingWithTrap) {
-                // This is the first frame of collision with a trap
-                game.trapSound.play(); // Play the sound
-                character.loseLife();
-                timeSinceLastTrapSound = 0; // Reset the timer
-                isCollidingWithTrap = true;
-            } else {
-                // The character is still colliding with a trap
-                timeSinceLastTrapSound += deltaTime;
-                if (timeSinceLastTrapSound >= 3.0f) { // 3 seconds passed
-                    game.trapSound.play(); // Play the sound again
-                    character.loseLife();
-                    timeSinceLastTrapSound = 0; // Reset the timer
-                }
-            }
-        } else {
-            // No collision with a trap is happening
-            isCollidingWithTrap = false;
-        }
+    /**
+     * Displays the game over screen.
+     */
+    @Override
+    public void lost() {
+        hud.showGameOverScreen();
     }
 
     /**
@@ -227,4 +128,4 @@ public void pause() {
     public void resume() {
         isPaused = false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * Base class of everything that moves in the simulation (the player and the enemies). It only holds a position and the
+ * position at the start of the last simulation tick, so rendering can interpolate between the two, see
+ * {@link SimulationClock}. It has no textures or other libGDX graphics state and can be used without a GL context.
+ */
+public abstract class MovingBody {
+    private float x;
+    private float y;
+    private float previousX; // position at the start of the last simulation tick, for render interpolation
+    private float previousY;
+
+    /**
+     * Constructs a body at the given position.
+     *
+     * @param x The x-coordinate.
+     * @param y The y-coordinate.
+     */
+    protected MovingBody(float x, float y) {
+        this.x = x;
+        this.y = y;
+        this.previousX = x;
+        this.previousY = y;
+    }
+
+    /**
+     * Remembers the current position as the previous one. Called at the start of every simulation tick.
+     */
+    public void savePreviousPosition() {
+        previousX = x;
+        previousY = y;
+    }
+
+    /**
+     * Returns the x-coordinate to draw the body at, between its position of the last tick and its current position.
+     *
+     * @param alpha The interpolation factor from {@link SimulationClock#getAlpha()}.
+     * @return The interpolated x-coordinate.
+     */
+    public float getRenderX(float alpha) {
+        return previousX + (x - previousX) * alpha;
+    }
+
+    /**
+     * Returns the y-coordinate to draw the body at, between its position of the last tick and its current position.
+     *
+     * @param alpha The interpolation factor from {@link SimulationClock#getAlpha()}.
+     * @return The interpolated y-coordinate.
+     */
+    public float getRenderY(float alpha) {
+        return previousY + (y - previousY) * alpha;
+    }
+
+    // Getter and setter
+    public float getX() { return x; }
+
+    public void setX(float x) {
+        this.x = x;
+    }
+
+    public float getY() { return y; }
+
+    public void setY(float y) {
+        this.y = y;
+    }
+}
@@ -0,0 +1,54 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.utils.LongArray;
+
+/**
+ * The pathfinding algorithms a {@link MazeWorld} can use, see {@link MazeWorld#setPathfinder(Pathfinder)}. All of them
+ * find paths on the 4-connected grid of walkable tiles and return every tile of the path.
+ */
+public enum Pathfinder {
+    /**
+     * Plain A*, see {@link AStarPathfinding}.
+     */
+    A_STAR {
+        @Override
+        public boolean findPath(MazeWorld world, int startX, int startY, int endX, int endY, LongArray path) {
+            return AStarPathfinding.findPath(world, startX, startY, endX, endY, path);
+        }
+    },
+    /**
+     * Jump Point Search, which expands far fewer tiles in open areas, see {@link JumpPointSearch}. Maps with more than
+     * {@link GridSearch#FIRST_WINDOW_TILES} tiles have no jump table and are searched with {@link #A_STAR} instead.
+     */
+    JUMP_POINT_SEARCH {
+        @Override
+        public boolean findPath(MazeWorld world, int startX, int startY, int endX, int endY, LongArray path) {
+            return JumpPointSearch.findPath(world, startX, startY, endX, endY, path);
+        }
+    },
+    /**
+     * Hierarchical pathfinding on precomputed clusters, for very large maps. Its paths are nearly as short as the
+     * others, see {@link HierarchicalPathfinding}.
+     */
+    HIERARCHICAL {
+        @Override
+        public boolean findPath(MazeWorld world, int startX, int startY, int endX, int endY, LongArray path) {
+            return HierarchicalPathfinding.findPath(world, startX, startY, endX, endY, path);
+        }
+    };
+
+    /**
+     * Finds a path between two tiles, the shortest one except for {@link #HIERARCHICAL} and for tile searches that are
+     * too far apart for a search window, see {@link GridSearch#MAX_WINDOW_TILES}.
+     *
+     * @param world  The world on which the pathfinding is to be performed.
+     * @param startX The x-coordinate of the start tile.
+     * @param startY The y-coordinate of the start tile.
+     * @param endX   The x-coordinate of the end tile.
+     * @param endY   The y-coordinate of the end tile.
+     * @param path   Cleared and filled with every tile of the path as {@code (long) y * world.getWidth() + x}, from the
+     *               start to the end tile, both included. Stays empty if no path is found.
+     * @return {@code true} if a path was found.
+     */
+    public abstract boolean findPath(MazeWorld world, int startX, int startY, int endX, int endY, LongArray path);
+}
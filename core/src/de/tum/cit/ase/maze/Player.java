@@ -0,0 +1,120 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * The simulation model of the player: position in game world pixels, lives, the collected key and the cooldown after
+ * losing a life. It does not draw anything; the {@link Character} renders it and the {@link MazeSimulation} moves it.
+ */
+public class Player extends MovingBody {
+    public static final int MAX_LIVES = 5;
+    public static final float SPEED = 90; // pixels per second
+    private static final float TRAP_COOLDOWN_DURATION = 0.7f; // no life is lost during this time after losing one
+
+    /**
+     * The directions the player can face and move in.
+     */
+    public enum Direction {
+        DOWN, UP, LEFT, RIGHT
+    }
+
+    private int lives;
+    private boolean hasKey;
+    private float trapCooldownTime = 0;
+    private Direction direction = Direction.DOWN; // the direction the player is facing
+    private boolean moving; // whether the player moved in the last tick
+
+    /**
+     * Constructs a player at the given position.
+     *
+     * @param x     The x-coordinate in the game world.
+     * @param y     The y-coordinate in the game world.
+     * @param lives The number of lives to start with.
+     */
+    public Player(float x, float y, int lives) {
+        super(x, y);
+        this.lives = lives;
+    }
+
+    /**
+     * Moves the player one tick into the given direction and turns it that way.
+     * Collisions are checked by the {@link MazeSimulation} before.
+     *
+     * @param direction The direction to move in.
+     * @param deltaTime The length of the simulation tick in seconds.
+     */
+    public void move(Direction direction, float deltaTime) {
+        float distance = SPEED * deltaTime;
+        switch (direction) {
+            case UP -> setY(getY() + distance);
+            case DOWN -> setY(getY() - distance);
+            case LEFT -> setX(getX() - distance);
+            case RIGHT -> setX(getX() + distance);
+        }
+        this.direction = direction;
+        moving = true;
+    }
+
+    /**
+     * Marks the player as standing for this tick, it keeps facing the same direction.
+     */
+    public void stop() {
+        moving = false;
+    }
+
+    /**
+     * Counts down the cooldown after losing a life.
+     *
+     * @param deltaTime The length of the simulation tick in seconds.
+     */
+    public void update(float deltaTime) {
+        if (trapCooldownTime > 0) {
+            trapCooldownTime -= deltaTime;
+        }
+    }
+
+    /**
+     * Takes one life unless the player lost one just before.
+     *
+     * @return {@code true} if a life was lost.
+     */
+    public boolean loseLife() {
+        if (trapCooldownTime <= 0 && lives > 0) {
+            lives--;
+            trapCooldownTime = TRAP_COOLDOWN_DURATION;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Adds one life if the player has less than {@link #MAX_LIVES}.
+     *
+     * @return {@code true} if a life was added.
+     */
+    public boolean gainLife() {
+        if (lives < MAX_LIVES) {
+            lives++;
+            return true;
+        }
+        return false;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public boolean hasKey() {
+        return hasKey;
+    }
+
+    public void setHasKey(boolean hasKey) {
+        this.hasKey = hasKey;
+    }
+
+    public Direction getDirection() {
+        return direction;
+    }
+
+    public boolean isMoving() {
+        return moving;
+    }
+}
@@ -0,0 +1,202 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Single-pass streaming parser for .properties level files ({@code x,y=type} per line).
+ * The file is read in fixed-size chunks and the numbers are parsed digit by digit straight from the bytes,
+ * so no {@code String}s, no {@link java.util.Properties} table and no per-line objects are created.
+ * Every entry is appended to one primitive buffer while the map size grows with the largest coordinates seen,
+ * and the tile grid is filled in one go at the end. Comment lines ({@code #} or {@code !}) and blank lines are skipped,
+ * just like entries with an unknown tile type. Files without any tile and maps with more than
+ * {@link MazeWorld#MAX_FLAT_TILES} tiles are rejected.
+ */
+public class PropertiesMapParser {
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_DIGITS = 9; // longer numbers do not fit into an int
+
+    // Parser states
+    private static final int LINE_START = 0;
+    private static final int X = 1;
+    private static final int Y = 2;
+    private static final int BEFORE_SEPARATOR = 3;
+    private static final int BEFORE_TYPE = 4;
+    private static final int TYPE = 5;
+    private static final int AFTER_TYPE = 6;
+    private static final int COMMENT = 7;
+
+    private PropertiesMapParser() {
+    }
+
+    /**
+     * Parses a level file from the given stream. The stream is read until its end but not closed.
+     *
+     * @param input The stream of the .properties file.
+     * @return The parsed {@link MapData}.
+     * @throws IOException If the stream cannot be read or a line is not of the form {@code x,y=type}.
+     */
+    public static MapData parse(InputStream input) throws IOException {
+        IntArray entries = new IntArray(true, 1024); // x, y, type triples
+        byte[] chunk = new byte[CHUNK_SIZE];
+
+        int state = LINE_START;
+        int line = 1;
+        int x = 0, y = 0, type = 0;
+        boolean hasDigits = false;
+        int digits = 0; // of the number being parsed
+        int maxX = -1, maxY = -1;
+
+        int read;
+        while ((read = input.read(chunk)) != -1) {
+            for (int i = 0; i < read; i++) {
+                int c = chunk[i];
+
+                if (c == '\n' || c == '\r') {
+                    if (state == TYPE || state == AFTER_TYPE) {
+                        if (MapData.isLevelType(type)) { // unknown tile types are ignored
+                            entries.add(x, y, type);
+                            if (x > maxX) maxX = x;
+                            if (y > maxY) maxY = y;
+                            checkSize(maxX + 1, maxY + 1, line);
+                        }
+                    } else if (state != LINE_START && state != COMMENT) {
+                        throw malformed(line);
+                    }
+                    if (c == '\n') line++;
+                    state = LINE_START;
+                    x = 0; y = 0; type = 0;
+                    hasDigits = false;
+                    digits = 0;
+                    continue;
+                }
+
+                switch (state) {
+                    case LINE_START:
+                        if (c == '#' || c == '!') {
+                            state = COMMENT;
+                        } else if (isDigit(c)) {
+                            x = c - '0';
+                            digits = 1;
+                            state = X;
+                        } else if (!isBlank(c)) {
+                            throw malformed(line);
+                        }
+                        break;
+                    case X:
+                        if (isDigit(c) && ++digits <= MAX_DIGITS) {
+                            x = x * 10 + (c - '0');
+                        } else if (c == ',') {
+                            digits = 0;
+                            state = Y;
+                        } else {
+                            throw malformed(line);
+                        }
+                        break;
+                    case Y:
+                        if (isDigit(c) && ++digits <= MAX_DIGITS) {
+                            y = y * 10 + (c - '0');
+                            hasDigits = true;
+                        } else if (hasDigits && (c == '=' || c == ':')) {
+                            hasDigits = false;
+                            state = BEFORE_TYPE;
+                        } else if (hasDigits && isBlank(c)) {
+                            hasDigits = false;
+                            state = BEFORE_SEPARATOR;
+                        } else {
+                            throw malformed(line);
+                        }
+                        break;
+                    case BEFORE_SEPARATOR:
+                        if (c == '=' || c == ':') {
+                            state = BEFORE_TYPE;
+                        } else if (!isBlank(c)) {
+                            throw malformed(line);
+                        }
+                        break;
+                    case BEFORE_TYPE:
+                        if (isDigit(c)) {
+                            type = c - '0';
+                            digits = 1;
+                            hasDigits = true;
+                            state = TYPE;
+                        } else if (!isBlank(c)) {
+                            throw malformed(line);
+                        }
+                        break;
+                    case TYPE:
+                        if (isDigit(c) && ++digits <= MAX_DIGITS) {
+                            type = type * 10 + (c - '0');
+                        } else if (isBlank(c)) {
+                            state = AFTER_TYPE;
+                        } else {
+                            throw malformed(line);
+                        }
+                        break;
+                    case AFTER_TYPE:
+                        if (!isBlank(c)) {
+                            throw malformed(line);
+                        }
+                        break;
+                    default: // COMMENT, skip until the end of the line
+                        break;
+                }
+            }
+        }
+        // last line without a line break
+        if (state == TYPE || state == AFTER_TYPE) {
+            if (MapData.isLevelType(type)) { // unknown tile types are ignored
+                entries.add(x, y, type);
+                if (x > maxX) maxX = x;
+                if (y > maxY) maxY = y;
+                checkSize(maxX + 1, maxY + 1, line);
+            }
+        } else if (state != LINE_START && state != COMMENT) {
+            throw malformed(line);
+        }
+
+        if (entries.size == 0) {
+            throw new IOException("Empty map: the level file has no tiles");
+        }
+        return toMapData(entries, maxX + 1, maxY + 1);
+    }
+
+    /**
+     * Fails as soon as the largest coordinates seen so far make the map larger than a {@link MazeWorld} keeps in one
+     * array, before the grid is allocated.
+     */
+    private static void checkSize(int width, int height, int line) throws IOException {
+        if ((long) width * height > MazeWorld.MAX_FLAT_TILES) {
+            throw new IOException("Map too large: " + width + "x" + height + " in line " + line);
+        }
+    }
+
+    /**
+     * Fills the tile grid from the buffered {@code x, y, type} triples.
+     */
+    private static MapData toMapData(IntArray entries, int width, int height) {
+        byte[] tiles = new byte[width * height];
+        Arrays.fill(tiles, MapData.EMPTY);
+
+        int[] items = entries.items;
+        for (int i = 0; i < entries.size; i += 3) {
+            tiles[items[i + 1] * width + items[i]] = (byte) items[i + 2];
+        }
+        return new MapData(width, height, tiles);
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isBlank(int c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+
+    private static IOException malformed(int line) {
+        return new IOException("Malformed level entry in line " + line + ", expected x,y=type");
+    }
+}
@@ -0,0 +1,277 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+
+import java.util.Arrays;
+
+/**
+ * A {@link TileGrid} for mazes that are too large to keep in memory at once. The maze is split into square regions of
+ * {@link #REGION_SIZE} x {@link #REGION_SIZE} tiles, and only a bounded number of regions is kept in memory at a time.
+ * A region is filled from the {@link TileSource} the first time one of its tiles is accessed and evicted again
+ * when it was the least recently used one and the budget is exceeded. The resident regions are found through a
+ * {@link LongMap} keyed by their region coordinates and kept in a linked list in the order of their last use. Changes to
+ * single tiles (removed keys, placed extra lives, ...) are kept separately per region and re-applied when the region is
+ * paged in again, so eviction never loses state.
+ */
+public class RegionPagedWorld implements TileGrid {
+    public static final int REGION_SIZE = 64;
+    private static final int REGION_SHIFT = 6; // log2(REGION_SIZE)
+    private static final int REGION_MASK = REGION_SIZE - 1;
+
+    /**
+     * One resident region of the world, its tiles are stored row-major.
+     */
+    public static class Region {
+        private final int regionX;
+        private final int regionY;
+        private final byte[] tiles = new byte[REGION_SIZE * REGION_SIZE];
+        private Region previous, next; // neighbors in the list of resident regions, from least to most recently used
+
+        private Region(int regionX, int regionY) {
+            this.regionX = regionX;
+            this.regionY = regionY;
+        }
+
+        /**
+         * Returns the tile type at the given position inside the region.
+         *
+         * @param localX The x-coordinate relative to the region (0 to {@link #REGION_SIZE} - 1).
+         * @param localY The y-coordinate relative to the region (0 to {@link #REGION_SIZE} - 1).
+         * @return The tile type.
+         */
+        public byte get(int localX, int localY) {
+            return tiles[localY * REGION_SIZE + localX];
+        }
+
+        /**
+         * @return The tile x-coordinate of the lower left corner of this region.
+         */
+        public int getStartX() {
+            return regionX << REGION_SHIFT;
+        }
+
+        /**
+         * @return The tile y-coordinate of the lower left corner of this region.
+         */
+        public int getStartY() {
+            return regionY << REGION_SHIFT;
+        }
+    }
+
+    private final TileSource source;
+    private final int width;
+    private final int height;
+    private final int maxResidentRegions;
+    private final LongMap<Region> residentRegions = new LongMap<>();
+    private Region leastRecentlyUsed, mostRecentlyUsed; // ends of the list of resident regions
+    // changed tiles per region key, each packed as (index in the region << 8) | (tile type & 0xFF)
+    private final LongMap<IntArray> changedTiles = new LongMap<>();
+    private Region lastRegion; // most tile accesses hit the same region as the previous one
+
+    /**
+     * Constructs a new paged world over the given tile source.
+     *
+     * @param source             The source of the tile types.
+     * @param maxResidentRegions The maximum number of regions kept in memory at the same time.
+     */
+    public RegionPagedWorld(TileSource source, int maxResidentRegions) {
+        this.source = source;
+        this.width = source.getWidth();
+        this.height = source.getHeight();
+        this.maxResidentRegions = Math.max(1, maxResidentRegions);
+    }
+
+    /**
+     * Returns the tile type at the given tile coordinates, paging its region in if necessary.
+     *
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     * @return The tile type, or {@link MapData#EMPTY} if the tile is empty or outside of the world.
+     */
+    @Override
+    public byte get(int x, int y) {
+        if (!isInside(x, y)) {
+            return MapData.EMPTY;
+        }
+        return region(x >> REGION_SHIFT, y >> REGION_SHIFT).get(x & REGION_MASK, y & REGION_MASK);
+    }
+
+    /**
+     * Changes the tile type at the given tile coordinates. The change survives eviction of the region.
+     *
+     * @param x        The x-coordinate of the tile.
+     * @param y        The y-coordinate of the tile.
+     * @param tileType The new tile type.
+     */
+    @Override
+    public void set(int x, int y, byte tileType) {
+        if (!isInside(x, y)) {
+            return;
+        }
+        long regionKey = key(x >> REGION_SHIFT, y >> REGION_SHIFT);
+        int index = (y & REGION_MASK) * REGION_SIZE + (x & REGION_MASK);
+        IntArray changes = changedTiles.get(regionKey);
+        if (changes == null) {
+            changes = new IntArray(4);
+            changedTiles.put(regionKey, changes);
+        }
+        int change = (index << 8) | (tileType & 0xFF);
+        int i = 0;
+        while (i < changes.size && changes.get(i) >>> 8 != index) {
+            i++;
+        }
+        if (i < changes.size) {
+            changes.set(i, change); // changed again
+        } else {
+            changes.add(change);
+        }
+        Region region = residentRegions.get(regionKey);
+        if (region != null) {
+            region.tiles[index] = tileType;
+        }
+    }
+
+    /**
+     * Makes sure that all regions overlapping the given tile rectangle are resident and marks them as recently used.
+     * Coordinates outside of the world are clamped.
+     *
+     * @param minX The smallest tile x-coordinate of the area.
+     * @param minY The smallest tile y-coordinate of the area.
+     * @param maxX The largest tile x-coordinate of the area.
+     * @param maxY The largest tile y-coordinate of the area.
+     */
+    @Override
+    public void touch(int minX, int minY, int maxX, int maxY) {
+        minX = Math.max(minX, 0);
+        minY = Math.max(minY, 0);
+        maxX = Math.min(maxX, width - 1);
+        maxY = Math.min(maxY, height - 1);
+        for (int regionY = minY >> REGION_SHIFT; regionY <= maxY >> REGION_SHIFT; regionY++) {
+            for (int regionX = minX >> REGION_SHIFT; regionX <= maxX >> REGION_SHIFT; regionX++) {
+                region(regionX, regionY);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of regions in memory.
+     *
+     * @return The number of resident regions.
+     */
+    public int getResidentRegionCount() {
+        return residentRegions.size;
+    }
+
+    /**
+     * Returns the maximum number of regions kept in memory.
+     *
+     * @return The resident region budget.
+     */
+    public int getMaxResidentRegions() {
+        return maxResidentRegions;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the region with the given region coordinates, paging it in if necessary, and marks it as the most
+     * recently used one.
+     */
+    private Region region(int regionX, int regionY) {
+        Region region = lastRegion;
+        if (region != null && region.regionX == regionX && region.regionY == regionY) {
+            return region; // already the most recently used one
+        }
+        long regionKey = key(regionX, regionY);
+        region = residentRegions.get(regionKey);
+        if (region == null) {
+            region = load(regionX, regionY);
+            residentRegions.put(regionKey, region);
+            if (residentRegions.size > maxResidentRegions) {
+                evict(leastRecentlyUsed);
+            }
+        } else {
+            unlink(region);
+        }
+        // append at the most recently used end
+        region.previous = mostRecentlyUsed;
+        if (mostRecentlyUsed != null) {
+            mostRecentlyUsed.next = region;
+        } else {
+            leastRecentlyUsed = region;
+        }
+        mostRecentlyUsed = region;
+        lastRegion = region;
+        return region;
+    }
+
+    /**
+     * Removes a region from memory. Its changed tiles are kept in {@link #changedTiles}.
+     */
+    private void evict(Region region) {
+        unlink(region);
+        residentRegions.remove(key(region.regionX, region.regionY));
+        if (region == lastRegion) {
+            lastRegion = null;
+        }
+    }
+
+    /**
+     * Takes a region out of the list of resident regions.
+     */
+    private void unlink(Region region) {
+        if (region.previous != null) {
+            region.previous.next = region.next;
+        } else {
+            leastRecentlyUsed = region.next;
+        }
+        if (region.next != null) {
+            region.next.previous = region.previous;
+        } else {
+            mostRecentlyUsed = region.previous;
+        }
+        region.previous = null;
+        region.next = null;
+    }
+
+    /**
+     * Fills a region from the tile source and re-applies the changed tiles inside it.
+     * Enemy spawns are stored as empty tiles, as enemies are not part of the grid.
+     */
+    private Region load(int regionX, int regionY) {
+        Region region = new Region(regionX, regionY);
+        Arrays.fill(region.tiles, MapData.EMPTY);
+        int startX = regionX << REGION_SHIFT;
+        int startY = regionY << REGION_SHIFT;
+        int endX = Math.min(startX + REGION_SIZE, width);
+        int endY = Math.min(startY + REGION_SIZE, height);
+        for (int y = startY; y < endY; y++) {
+            for (int x = startX; x < endX; x++) {
+                byte tileType = source.getTile(x, y);
+                region.tiles[(y - startY) * REGION_SIZE + (x - startX)] = tileType == MapData.ENEMY ? MapData.EMPTY : tileType;
+            }
+        }
+
+        IntArray changes = changedTiles.get(key(regionX, regionY));
+        if (changes != null) {
+            for (int i = 0; i < changes.size; i++) {
+                int change = changes.get(i);
+                region.tiles[change >>> 8] = (byte) change;
+            }
+        }
+        return region;
+    }
+
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+}
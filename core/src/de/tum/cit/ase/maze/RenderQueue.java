@@ -0,0 +1,133 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import java.util.Arrays;
+
+/**
+ * Collects the sprites of the world for one frame and draws them in a fixed order instead of the order they were
+ * submitted in. Every sprite gets a sort key made of its layer, its texture and its depth; the queue radix-sorts the
+ * keys once per frame and then draws everything with the {@link SpriteBatch}. Within a layer, sprites of the same
+ * texture end up next to each other, so the batch only flushes when the texture really changes, and sprites higher
+ * up on the screen are drawn first so that lower ones overlap them.
+ * The queue keeps its arrays between frames, so submitting and flushing do not allocate once it has grown.
+ */
+public class RenderQueue {
+    // Layers, drawn from the lowest to the highest
+    public static final int LAYER_OBJECTS = 0; // keys and extra lives
+    public static final int LAYER_ENEMIES = 1;
+    public static final int LAYER_CHARACTER = 2;
+
+    // sort key: 4 bits layer, 8 bits texture, 20 bits depth
+    private static final int LAYER_SHIFT = 28;
+    private static final int TEXTURE_SHIFT = 20;
+    private static final int TEXTURE_MASK = 0xFF;
+    private static final int DEPTH_MASK = (1 << TEXTURE_SHIFT) - 1;
+
+    private final ObjectIntMap<Texture> textureIds = new ObjectIntMap<>();
+    private TextureRegion[] regions = new TextureRegion[64];
+    private float[] positions = new float[128]; // x and y per sprite
+    private int[] keys = new int[64];
+    private int[] order = new int[64];
+    private int[] sortedKeys = new int[64]; // scratch arrays of the radix sort
+    private int[] sortedOrder = new int[64];
+    private final int[] counts = new int[257];
+    private int size;
+
+    /**
+     * Adds a sprite to the queue for this frame.
+     *
+     * @param layer  The layer of the sprite, e.g. {@link #LAYER_ENEMIES}.
+     * @param region The texture region to draw.
+     * @param x      The x-coordinate in the game world.
+     * @param y      The y-coordinate in the game world.
+     */
+    public void submit(int layer, TextureRegion region, float x, float y) {
+        if (size == regions.length) {
+            grow();
+        }
+        Texture texture = region.getTexture();
+        int textureId = textureIds.get(texture, -1);
+        if (textureId < 0) {
+            textureId = textureIds.size & TEXTURE_MASK;
+            textureIds.put(texture, textureId);
+        }
+        // higher sprites get a smaller depth and are drawn first
+        int depth = DEPTH_MASK - Math.max(0, Math.min((int) y, DEPTH_MASK));
+        regions[size] = region;
+        positions[size * 2] = x;
+        positions[size * 2 + 1] = y;
+        keys[size] = layer << LAYER_SHIFT | textureId << TEXTURE_SHIFT | depth;
+        size++;
+    }
+
+    /**
+     * Sorts the submitted sprites, draws them and empties the queue. Must be called between
+     * {@code batch.begin()} and {@code batch.end()}.
+     *
+     * @param batch The batch to draw with.
+     */
+    public void flush(SpriteBatch batch) {
+        sort();
+        for (int i = 0; i < size; i++) {
+            int sprite = order[i];
+            batch.draw(regions[sprite], positions[sprite * 2], positions[sprite * 2 + 1]);
+            regions[sprite] = null; // do not keep regions alive longer than the frame
+        }
+        size = 0;
+    }
+
+    /**
+     * Returns the number of sprites submitted since the last flush.
+     *
+     * @return The number of queued sprites.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sorts the sprite indices by key with a stable least significant digit radix sort, one byte per pass,
+     * so sprites with equal keys keep their submission order.
+     */
+    private void sort() {
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        int[] keyIn = keys, keyOut = sortedKeys, orderIn = order, orderOut = sortedOrder;
+        for (int shift = 0; shift < 32; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++) {
+                counts[((keyIn[i] >>> shift) & 0xFF) + 1]++;
+            }
+            for (int i = 0; i < 256; i++) {
+                counts[i + 1] += counts[i];
+            }
+            for (int i = 0; i < size; i++) {
+                int target = counts[(keyIn[i] >>> shift) & 0xFF]++;
+                keyOut[target] = keyIn[i];
+                orderOut[target] = orderIn[i];
+            }
+            int[] swap = keyIn; keyIn = keyOut; keyOut = swap;
+            swap = orderIn; orderIn = orderOut; orderOut = swap;
+        }
+        // after an even number of passes the result is back in the original arrays
+        keys = keyIn;
+        sortedKeys = keyOut;
+        order = orderIn;
+        sortedOrder = orderOut;
+    }
+
+    private void grow() {
+        int capacity = regions.length * 2;
+        regions = Arrays.copyOf(regions, capacity);
+        positions = Arrays.copyOf(positions, capacity * 2);
+        keys = Arrays.copyOf(keys, capacity);
+        order = new int[capacity];
+        sortedKeys = new int[capacity];
+        sortedOrder = new int[capacity];
+    }
+}
@@ -0,0 +1,110 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * The {@code ScreenManager} builds the screens of the game once and keeps them, together with their stages and
+ * textures, for the whole lifetime of the game. Switching between the menu and a game only hides one screen and shows
+ * the other through {@link com.badlogic.gdx.Game#setScreen(Screen)}; nothing is loaded from disk or uploaded to the
+ * GPU again. Only the {@link GameScreen} is replaced, when a new level is loaded.
+ */
+public class ScreenManager implements Disposable {
+    private final MazeRunnerGame game;
+    private MenuScreen menuScreen; // built on first use
+    private LoadingScreen loadingScreen; // built on first use, reused for every level
+    private GameScreen gameScreen; // the current game, null before the first level is loaded
+
+    /**
+     * Constructs the screen manager. The screens are built when they are shown for the first time.
+     *
+     * @param game The main game class, whose current screen is switched.
+     */
+    public ScreenManager(MazeRunnerGame game) {
+        this.game = game;
+    }
+
+    /**
+     * Shows the menu. A running game is paused and kept, so it can be continued later.
+     */
+    public void showMenu() {
+        if (gameScreen != null) {
+            gameScreen.pause();
+        }
+        if (menuScreen == null) {
+            menuScreen = new MenuScreen(game);
+        }
+        show(menuScreen);
+    }
+
+    /**
+     * Shows the loading screen and starts loading a level. The current game is disposed, the loaded one replaces it.
+     * A level that is still in the {@link LevelCache}, e.g. when the player restarts it, is built right away on the
+     * render thread instead, without a loading frame: its textures were uploaded with it the first time.
+     *
+     * @param mapPath The file path of the level to load.
+     */
+    public void showLoading(String mapPath) {
+        disposeGame();
+        MapData cached = game.getLevelCache().getCached(Gdx.files.internal(mapPath));
+        if (cached != null) {
+            game.getTextureManager().preload(LoadingScreen.MAP_TEXTURES); // nothing to do unless the game was disposed
+            showGame(new GameScreen(game, new GameMap(cached, game.getTextureManager())));
+            return;
+        }
+        if (loadingScreen == null) {
+            loadingScreen = new LoadingScreen(game);
+        }
+        loadingScreen.load(mapPath);
+        show(loadingScreen);
+    }
+
+    /**
+     * Shows a game screen. If it is a newly loaded game it replaces the current one, which is disposed.
+     *
+     * @param screen The game screen to show.
+     */
+    public void showGame(GameScreen screen) {
+        if (screen != gameScreen) {
+            disposeGame();
+            gameScreen = screen;
+        }
+        show(gameScreen);
+    }
+
+    /**
+     * Returns the current game.
+     *
+     * @return The game screen of the current game, or {@code null} if no game has been started.
+     */
+    public GameScreen getGameScreen() {
+        return gameScreen;
+    }
+
+    private void show(Screen screen) {
+        if (game.getScreen() != screen) {
+            game.setScreen(screen);
+        }
+    }
+
+    private void disposeGame() {
+        if (gameScreen != null) {
+            gameScreen.dispose();
+            gameScreen = null;
+        }
+    }
+
+    /**
+     * Hides the current screen and disposes of all screens.
+     */
+    @Override
+    public void dispose() {
+        if (game.getScreen() != null) {
+            game.getScreen().hide();
+        }
+        disposeGame();
+        if (loadingScreen != null) loadingScreen.dispose();
+        if (menuScreen != null) menuScreen.dispose();
+    }
+}
@@ -0,0 +1,91 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * A fixed-step clock for the game simulation. The frame time is collected in an accumulator and handed out in ticks of
+ * exactly {@link #getStep()} seconds, so input, collisions and enemies behave the same at every frame rate. What is left
+ * in the accumulator after the ticks of a frame is returned by {@link #getAlpha()}, the fraction of a tick that
+ * rendering should interpolate between the previous and the current state.
+ */
+public class SimulationClock {
+    public static final int DEFAULT_TICKS_PER_SECOND = 60;
+    private static final float MAX_FRAME_TIME = 0.25f; // longer frames (e.g. after a pause) are cut, so the simulation does not spiral
+
+    private float step;
+    private float accumulator;
+
+    /**
+     * Constructs a clock that ticks {@link #DEFAULT_TICKS_PER_SECOND} times per second.
+     */
+    public SimulationClock() {
+        this(DEFAULT_TICKS_PER_SECOND);
+    }
+
+    /**
+     * Constructs a clock with the given simulation rate.
+     *
+     * @param ticksPerSecond The number of simulation ticks per second, e.g. 30 on weak machines.
+     */
+    public SimulationClock(int ticksPerSecond) {
+        setTicksPerSecond(ticksPerSecond);
+    }
+
+    /**
+     * Changes the simulation rate. The time already collected is kept.
+     *
+     * @param ticksPerSecond The number of simulation ticks per second, at least 1.
+     */
+    public void setTicksPerSecond(int ticksPerSecond) {
+        if (ticksPerSecond < 1) {
+            throw new IllegalArgumentException("ticksPerSecond must be at least 1 but was " + ticksPerSecond);
+        }
+        this.step = 1f / ticksPerSecond;
+    }
+
+    /**
+     * Adds the time of a rendered frame to the accumulator.
+     *
+     * @param delta The time in seconds since the last frame.
+     */
+    public void advance(float delta) {
+        accumulator += Math.min(Math.max(delta, 0), MAX_FRAME_TIME);
+    }
+
+    /**
+     * Takes one tick from the accumulator if enough time has been collected. Meant to be used as
+     * {@code while (clock.tick()) { ... }} after {@link #advance(float)}.
+     *
+     * @return {@code true} if a tick of {@link #getStep()} seconds should be simulated.
+     */
+    public boolean tick() {
+        if (accumulator >= step) {
+            accumulator -= step;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns how far the current frame lies between the last two simulated states.
+     *
+     * @return A value from 0 (the previous state) to 1 (the current state).
+     */
+    public float getAlpha() {
+        return Math.min(accumulator / step, 1f);
+    }
+
+    /**
+     * Returns the length of a tick.
+     *
+     * @return The simulated time per tick in seconds.
+     */
+    public float getStep() {
+        return step;
+    }
+
+    /**
+     * Drops the collected time, e.g. when the game is resumed after a pause.
+     */
+    public void reset() {
+        accumulator = 0;
+    }
+}
@@ -0,0 +1,60 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * Gets told about the events of a {@link MazeSimulation}, e.g. to play sounds and update the HUD.
+ * All methods do nothing by default, so headless runs can ignore the events they do not need.
+ */
+public interface SimulationListener {
+
+    /**
+     * Called when the player picked up the key.
+     */
+    default void keyCollected() {
+    }
+
+    /**
+     * Called when the player picked up an extra life.
+     */
+    default void extraLifeCollected() {
+    }
+
+    /**
+     * Called when the player ran into an enemy, also while the player still has the cooldown of the last lost life.
+     */
+    default void enemyHit() {
+    }
+
+    /**
+     * Called when the player stepped onto a trap, also while the player still has the cooldown of the last lost life.
+     */
+    default void trapHit() {
+    }
+
+    /**
+     * Called when the number of lives changed.
+     *
+     * @param lives The new number of lives.
+     */
+    default void livesChanged(int lives) {
+    }
+
+    /**
+     * Called once per second of game time while the timer runs.
+     *
+     * @param secondsLeft The remaining seconds.
+     */
+    default void timeChanged(int secondsLeft) {
+    }
+
+    /**
+     * Called once when the player reached an exit with the key.
+     */
+    default void won() {
+    }
+
+    /**
+     * Called once when the player lost the last life or the time ran out.
+     */
+    default void lost() {
+    }
+}
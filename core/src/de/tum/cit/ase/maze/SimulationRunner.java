@@ -0,0 +1,163 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.LongArray;
+
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Command line tool that plays many games of a level without a window, using the headless {@link MazeSimulation}.
+ * A simple bot walks along the A* path to the key and then to the nearest exit; the tool prints how many games were
+ * won, lost and how long they took, e.g. to check on a CI machine that every level can still be won.
+ * Usage: {@code SimulationRunner <level file> [games] [seed] [pathfinder]}, the pathfinder of the bot being
+ * {@code a_star} (default), {@code jump_point_search} or {@code hierarchical}.
+ * From Gradle: {@code ./gradlew :core:simulate} runs 1000 games of every level in {@code assets/maps}.
+ */
+public class SimulationRunner {
+    private static final float STEP = 1f / SimulationClock.DEFAULT_TICKS_PER_SECOND;
+    private static final int MAX_TICKS = (MazeSimulation.TIME_LIMIT + 1) * SimulationClock.DEFAULT_TICKS_PER_SECOND;
+
+    /**
+     * Runs the given number of games for every given level file, or every .properties file inside the given directories.
+     *
+     * @param args The level file or directory, optionally followed by the number of games, the seed and the pathfinder.
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: SimulationRunner <level file or directory> [games] [seed] [a_star|jump_point_search|hierarchical]");
+            return;
+        }
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        Pathfinder pathfinder = args.length > 3 ? Pathfinder.valueOf(args[3].toUpperCase()) : Pathfinder.A_STAR;
+        File file = new File(args[0]);
+        File[] files = file.isDirectory() ? file.listFiles((dir, name) -> name.endsWith(".properties")) : new File[]{file};
+        if (files == null) {
+            System.err.println("Cannot read " + args[0]);
+            return;
+        }
+        for (File levelFile : files) {
+            try {
+                TileSource layout = MapLoader.loadLayout(new FileHandle(levelFile));
+                run(levelFile.getName(), layout, games, seed, pathfinder);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Failed to simulate " + levelFile + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Plays a number of games on one map and prints the results.
+     *
+     * @param name       The name of the level for the output.
+     * @param layout     The map layout.
+     * @param games      The number of games to play.
+     * @param seed       The seed of the first game, the following games use the next seeds.
+     * @param pathfinder The pathfinding algorithm of the bot.
+     */
+    public static void run(String name, TileSource layout, int games, long seed, Pathfinder pathfinder) {
+        int won = 0, lost = 0;
+        double wonTime = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            MazeSimulation simulation = play(layout, seed + i, pathfinder);
+            if (simulation.getState() == MazeSimulation.State.WON) {
+                won++;
+                wonTime += simulation.getElapsedTime();
+            } else if (simulation.getState() == MazeSimulation.State.LOST) {
+                lost++;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%s: %d games, %d won (avg %.1f s), %d lost, %d unfinished, %.0f games/s%n",
+                name, games, won, won > 0 ? wonTime / won : 0, lost, games - won - lost, games / seconds);
+    }
+
+    /**
+     * Plays one game with the bot until it is won, lost or the time limit has passed.
+     *
+     * @param layout     The map layout.
+     * @param seed       The seed of the game.
+     * @param pathfinder The pathfinding algorithm of the bot.
+     * @return The finished simulation.
+     */
+    public static MazeSimulation play(TileSource layout, long seed, Pathfinder pathfinder) {
+        MazeSimulation simulation = new MazeSimulation(layout, seed);
+        simulation.getWorld().setPathfinder(pathfinder);
+        Bot bot = new Bot(simulation, new Random(seed));
+        for (int tick = 0; tick < MAX_TICKS && simulation.getState() == MazeSimulation.State.RUNNING; tick++) {
+            simulation.step(STEP, bot.nextInput());
+        }
+        return simulation;
+    }
+
+    /**
+     * Walks along the A* path to the key, and once it has the key to the nearest exit. The path is searched again
+     * whenever the player enters another tile. Without a path it walks in a random direction for a while.
+     */
+    private static class Bot {
+        private static final float CENTER_TOLERANCE = 2; // pixels, more than the distance of one tick
+        private final MazeSimulation simulation;
+        private final MazeWorld world;
+        private final Random random;
+        private final LongArray path = new LongArray(); // tile indices, empty without a path
+        private int pathTileX = -1, pathTileY = -1; // tile the path was searched from
+        private Player.Direction randomDirection;
+        private int randomTicks;
+
+        private Bot(MazeSimulation simulation, Random random) {
+            this.simulation = simulation;
+            this.world = simulation.getWorld();
+            this.random = random;
+        }
+
+        private Player.Direction nextInput() {
+            Player player = simulation.getPlayer();
+            int tileX = world.toCharacterTileX(player.getX());
+            int tileY = world.toCharacterTileY(player.getY());
+            if (tileX != pathTileX || tileY != pathTileY) {
+                findPath(player, tileX, tileY);
+                pathTileX = tileX;
+                pathTileY = tileY;
+            }
+            if (path.isEmpty()) {
+                return walkRandomly();
+            }
+            // steer to the center of the next tile of the path (the current one at the end of the path)
+            long next = path.get(Math.min(1, path.size - 1));
+            int nextX = (int) (next % world.getWidth()), nextY = (int) (next / world.getWidth());
+            float dx = nextX * MazeWorld.TILE_SIZE + MazeWorld.TILE_SIZE / 2f - MazeWorld.COLLISION_OFFSET_X - player.getX();
+            float dy = nextY * MazeWorld.TILE_SIZE + MazeWorld.TILE_SIZE / 2f - MazeWorld.COLLISION_OFFSET_Y - player.getY();
+            if (Math.abs(dx) > CENTER_TOLERANCE && Math.abs(dx) >= Math.abs(dy)) {
+                return dx > 0 ? Player.Direction.RIGHT : Player.Direction.LEFT;
+            }
+            if (Math.abs(dy) > CENTER_TOLERANCE) {
+                return dy > 0 ? Player.Direction.UP : Player.Direction.DOWN;
+            }
+            if (Math.abs(dx) > CENTER_TOLERANCE) {
+                return dx > 0 ? Player.Direction.RIGHT : Player.Direction.LEFT;
+            }
+            return null;
+        }
+
+        private void findPath(Player player, int tileX, int tileY) {
+            Point target = player.hasKey() ? world.findNearestExit(player.getX(), player.getY()) : world.findKey();
+            if (target == null) {
+                path.clear();
+                return;
+            }
+            world.findPath(tileX, tileY, target.x / MazeWorld.TILE_SIZE, target.y / MazeWorld.TILE_SIZE, path);
+        }
+
+        private Player.Direction walkRandomly() {
+            if (randomTicks-- <= 0) {
+                randomDirection = Player.Direction.values()[random.nextInt(4)];
+                randomTicks = 30;
+            }
+            return randomDirection;
+        }
+    }
+}
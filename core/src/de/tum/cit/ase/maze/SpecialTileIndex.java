@@ -0,0 +1,129 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.utils.LongArray;
+
+/**
+ * Keeps the positions of the special tiles of a map (entries, exits, traps, keys and extra lives) grouped by tile type,
+ * so the {@link MazeWorld} can find them without scanning the whole grid. Positions are stored as row-major tile indices
+ * ({@code (long) y * width + x}, so they do not overflow on maps of more than 2^31 tiles). The index is filled when
+ * the map is created and has to be updated whenever such a tile is added or removed.
+ */
+public class SpecialTileIndex {
+    private final int width;
+    private final LongArray[] positions = new LongArray[MapData.EXTRA_LIFE + 1];
+
+    /**
+     * Constructs an empty index for a map of the given width.
+     *
+     * @param width The width of the map in tiles.
+     */
+    public SpecialTileIndex(int width) {
+        this.width = width;
+        for (int type = MapData.ENTRY; type < positions.length; type++) {
+            if (type != MapData.ENEMY) { // enemies move, they are not tiles of the map
+                positions[type] = new LongArray();
+            }
+        }
+    }
+
+    /**
+     * Returns whether tiles of the given type are kept in this index.
+     *
+     * @param tileType The tile type.
+     * @return {@code true} for entries, exits, traps, keys and extra lives.
+     */
+    public boolean isIndexed(byte tileType) {
+        return tileType >= 0 && tileType < positions.length && positions[tileType] != null;
+    }
+
+    /**
+     * Adds all given row-major positions for one tile type, e.g. the positions from
+     * {@link TileSource#getPositions(byte)}.
+     *
+     * @param tileType  The tile type.
+     * @param positions The row-major tile indices.
+     */
+    public void addAll(byte tileType, long[] positions) {
+        if (isIndexed(tileType)) {
+            this.positions[tileType].addAll(positions);
+        }
+    }
+
+    /**
+     * Adds a tile to the index.
+     *
+     * @param tileType The tile type.
+     * @param x        The x-coordinate of the tile.
+     * @param y        The y-coordinate of the tile.
+     */
+    public void add(byte tileType, int x, int y) {
+        if (isIndexed(tileType)) {
+            positions[tileType].add((long) y * width + x);
+        }
+    }
+
+    /**
+     * Removes a tile from the index.
+     *
+     * @param tileType The tile type.
+     * @param x        The x-coordinate of the tile.
+     * @param y        The y-coordinate of the tile.
+     */
+    public void remove(byte tileType, int x, int y) {
+        if (isIndexed(tileType)) {
+            positions[tileType].removeValue((long) y * width + x);
+        }
+    }
+
+    /**
+     * Returns the first indexed tile of the given type.
+     *
+     * @param tileType The tile type.
+     * @return The row-major tile index, or -1 if there is no such tile.
+     */
+    public long first(byte tileType) {
+        if (!isIndexed(tileType) || positions[tileType].isEmpty()) {
+            return -1;
+        }
+        return positions[tileType].first();
+    }
+
+    /**
+     * Returns the tile of the given type that is closest (straight-line distance) to the given tile coordinates.
+     * Only the tiles of that type are looked at, not the whole map.
+     *
+     * @param tileType The tile type.
+     * @param x        The x-coordinate to measure from.
+     * @param y        The y-coordinate to measure from.
+     * @return The row-major tile index of the nearest tile, or -1 if there is no such tile.
+     */
+    public long nearest(byte tileType, int x, int y) {
+        if (!isIndexed(tileType)) {
+            return -1;
+        }
+        LongArray tiles = positions[tileType];
+        long nearest = -1;
+        long nearestDistance = Long.MAX_VALUE;
+        for (int i = 0; i < tiles.size; i++) {
+            long position = tiles.get(i);
+            long dx = position % width - x;
+            long dy = position / width - y;
+            long distance = dx * dx + dy * dy;
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = position;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Returns the positions of all indexed tiles of the given type. The returned array is not copied and must not be modified.
+     *
+     * @param tileType The tile type.
+     * @return The row-major tile indices, or {@code null} if the type is not indexed.
+     */
+    public LongArray getPositions(byte tileType) {
+        return isIndexed(tileType) ? positions[tileType] : null;
+    }
+}
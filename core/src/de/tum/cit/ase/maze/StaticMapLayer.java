@@ -0,0 +1,240 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Draws the parts of a map that never move (the path background, walls, entries, exits and traps) from a pre-baked
+ * {@link SpriteCache} instead of sending every tile through the {@code SpriteBatch} each frame. The map is split into
+ * chunks of {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE} tiles; a chunk is baked into one cache of the sprite cache the
+ * first time it becomes visible, and afterwards costs about one draw call per frame. When a tile changes, only the
+ * chunk containing it is marked dirty and baked again the next time it is drawn. At most {@link #MAX_CACHED_CHUNKS}
+ * chunks are baked at a time; the cache of the least recently drawn chunk is reused for a new one.
+ * Objects with their own state (keys, extra lives), enemies and the character are still drawn with the normal batch.
+ * GPU resources are created lazily, so the layer can be constructed on a background thread.
+ */
+public class StaticMapLayer implements Disposable {
+    public static final int CHUNK_SIZE = 32; // in tiles, 512x512 pixels
+    private static final int MAX_CACHED_CHUNKS = 48; // has to cover the visible area
+    // background and at most one static tile per cell; every cache is padded to this size so caches can be redefined
+    private static final int SPRITES_PER_CHUNK = CHUNK_SIZE * CHUNK_SIZE * 2;
+    private static final int TILE_SIZE = 16;
+
+    /**
+     * One baked chunk and the id of its cache in the sprite cache.
+     */
+    private static class Chunk {
+        private final int chunkX;
+        private final int chunkY;
+        private int cacheId = -1;
+        private boolean dirty = true;
+
+        private Chunk(int chunkX, int chunkY) {
+            this.chunkX = chunkX;
+            this.chunkY = chunkY;
+        }
+    }
+
+    private final TileGrid tiles;
+    private final TextureRegion background;
+    private final TextureRegion[] regionsByType; // frame per static tile type, null for types drawn elsewhere
+    private final LinkedHashMap<Long, Chunk> chunks; // in access order, eldest = least recently drawn
+    private final IntArray freeCacheIds = new IntArray(); // caches of evicted chunks, ready to be redefined
+    private SpriteCache spriteCache; // created on the first render, it needs the GL context
+    private TextureRegion lastRegion; // region of the last static tile added by addTiles()
+
+    /**
+     * Constructs the static layer for a tile grid.
+     *
+     * @param tiles         The tile grid of the map.
+     * @param background    The frame drawn below every tile (the path).
+     * @param regionsByType The frame of every static tile type, indexed by the tile type; {@code null} for types that
+     *                      are not part of the static layer.
+     */
+    public StaticMapLayer(TileGrid tiles, TextureRegion background, TextureRegion[] regionsByType) {
+        this.tiles = tiles;
+        this.background = background;
+        this.regionsByType = regionsByType;
+        this.chunks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Chunk> eldest) {
+                if (size() > MAX_CACHED_CHUNKS) {
+                    if (eldest.getValue().cacheId >= 0) {
+                        freeCacheIds.add(eldest.getValue().cacheId);
+                    }
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns whether tiles of the given type are baked into the static layer.
+     *
+     * @param tileType The tile type, see {@link MapData}.
+     * @return {@code true} for walls, entries, exits and traps.
+     */
+    public boolean isStatic(byte tileType) {
+        return tileType >= 0 && tileType < regionsByType.length && regionsByType[tileType] != null;
+    }
+
+    /**
+     * Marks the chunk that contains the given tile as dirty, so it is baked again the next time it is drawn.
+     * Only the changed chunk is rebuilt.
+     *
+     * @param x The x-coordinate of the changed tile.
+     * @param y The y-coordinate of the changed tile.
+     */
+    public void invalidate(int x, int y) {
+        Chunk chunk = chunks.get(key(x / CHUNK_SIZE, y / CHUNK_SIZE));
+        if (chunk != null) {
+            chunk.dirty = true;
+        }
+    }
+
+    /**
+     * Draws all chunks that overlap the given tile rectangle, baking the ones that are missing or dirty first.
+     * Must be called on the render thread, outside of a {@code SpriteBatch.begin()}/{@code end()} pair.
+     *
+     * @param projection The projection matrix of the camera.
+     * @param minX       The smallest visible tile x-coordinate.
+     * @param minY       The smallest visible tile y-coordinate.
+     * @param maxX       The largest visible tile x-coordinate.
+     * @param maxY       The largest visible tile y-coordinate.
+     */
+    public void render(Matrix4 projection, int minX, int minY, int maxX, int maxY) {
+        if (maxX < minX || maxY < minY) {
+            return;
+        }
+        if (spriteCache == null) {
+            spriteCache = new SpriteCache(MAX_CACHED_CHUNKS * SPRITES_PER_CHUNK, false);
+        }
+        int minChunkX = minX / CHUNK_SIZE, maxChunkX = maxX / CHUNK_SIZE;
+        int minChunkY = minY / CHUNK_SIZE, maxChunkY = maxY / CHUNK_SIZE;
+
+        // caches can only be defined while the sprite cache is not drawing
+        for (int chunkY = minChunkY; chunkY <= maxChunkY; chunkY++) {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                long chunkKey = key(chunkX, chunkY);
+                Chunk chunk = chunks.get(chunkKey); // get() also marks the chunk as recently drawn
+                if (chunk == null) {
+                    chunk = new Chunk(chunkX, chunkY);
+                    chunks.put(chunkKey, chunk);
+                }
+                if (chunk.dirty) {
+                    bake(chunk);
+                }
+            }
+        }
+
+        spriteCache.setProjectionMatrix(projection);
+        spriteCache.begin();
+        for (int chunkY = minChunkY; chunkY <= maxChunkY; chunkY++) {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                Chunk chunk = chunks.get(key(chunkX, chunkY));
+                if (chunk != null && !chunk.dirty) {
+                    spriteCache.draw(chunk.cacheId);
+                }
+            }
+        }
+        spriteCache.end();
+    }
+
+    /**
+     * Returns the number of chunks that are currently baked.
+     *
+     * @return The number of cached chunks.
+     */
+    public int getCachedChunkCount() {
+        return chunks.size();
+    }
+
+    /**
+     * Fills a cache with the background and the static tiles of a chunk. Sprites sharing the background texture are
+     * added first and the others afterwards, so the cache switches textures as rarely as possible. The cache is padded
+     * with empty sprites to {@link #SPRITES_PER_CHUNK}, as a redefined cache cannot grow.
+     */
+    private void bake(Chunk chunk) {
+        if (chunk.cacheId >= 0) {
+            spriteCache.beginCache(chunk.cacheId); // rebuild in place
+        } else if (freeCacheIds.notEmpty()) {
+            chunk.cacheId = freeCacheIds.pop();
+            spriteCache.beginCache(chunk.cacheId); // reuse the cache of an evicted chunk
+        } else {
+            spriteCache.beginCache(); // a new cache at the end of the sprite cache
+        }
+        int startX = chunk.chunkX * CHUNK_SIZE;
+        int startY = chunk.chunkY * CHUNK_SIZE;
+        int endX = Math.min(startX + CHUNK_SIZE, tiles.getWidth());
+        int endY = Math.min(startY + CHUNK_SIZE, tiles.getHeight());
+        int count = 0;
+        for (int y = startY; y < endY; y++) {
+            for (int x = startX; x < endX; x++) {
+                spriteCache.add(background, x * TILE_SIZE, y * TILE_SIZE);
+                count++;
+            }
+        }
+        Texture backgroundTexture = background.getTexture();
+        count += addTiles(startX, startY, endX, endY, backgroundTexture, true);
+        count += addTiles(startX, startY, endX, endY, backgroundTexture, false);
+        TextureRegion padding = lastRegion != null ? lastRegion : background; // same texture as the last sprite
+        for (; count < SPRITES_PER_CHUNK; count++) {
+            spriteCache.add(padding, 0, 0, 0, 0);
+        }
+        int cacheId = spriteCache.endCache();
+        if (chunk.cacheId < 0) {
+            chunk.cacheId = cacheId;
+        }
+        chunk.dirty = false;
+    }
+
+    /**
+     * Adds the static tiles of an area whose texture is (or is not) the given texture.
+     *
+     * @return The number of sprites added.
+     */
+    private int addTiles(int startX, int startY, int endX, int endY, Texture texture, boolean sameTexture) {
+        int count = 0;
+        lastRegion = null;
+        for (int y = startY; y < endY; y++) {
+            for (int x = startX; x < endX; x++) {
+                byte tileType = tiles.get(x, y);
+                if (!isStatic(tileType)) {
+                    continue;
+                }
+                TextureRegion region = regionsByType[tileType];
+                if ((region.getTexture() == texture) == sameTexture) {
+                    spriteCache.add(region, x * TILE_SIZE, y * TILE_SIZE);
+                    lastRegion = region;
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static long key(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Releases the sprite cache with all baked chunks.
+     */
+    @Override
+    public void dispose() {
+        chunks.clear();
+        freeCacheIds.clear();
+        if (spriteCache != null) {
+            spriteCache.dispose();
+            spriteCache = null;
+        }
+    }
+}
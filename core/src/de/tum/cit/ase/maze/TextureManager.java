@@ -1,16 +1,30 @@
 package de.tum.cit.ase.maze;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import java.util.HashMap;
 import java.util.Map;
 
 public class TextureManager {
+    // atlas with all sprite sheets of the game objects on one page, built by the packAtlas task of the core module
+    public static final String ATLAS_PATH = "sprites.atlas";
+
     //map to hold the textures, using the file path as the key
     private Map<String, Texture> textures;
+    //regions of the sprite sheets, using the file path as the key
+    private Map<String, TextureRegion> regions;
+    //sprite sheets split into frames, using the file path and the grid size as the key
+    private Map<String, TextureRegion[][]> frames;
+    private TextureAtlas atlas;
+    private boolean atlasLoaded; // also true if there is no atlas file
 
     public TextureManager() {
         textures = new HashMap<>();
+        regions = new HashMap<>();
+        frames = new HashMap<>();
     }
 
     /**
@@ -28,6 +42,96 @@ public Texture getTexture(String path) {
         return textures.get(path);
     }
 
+    /**
+     * Retrieves the region of a sprite sheet. Sheets that are packed into the sprite atlas share one texture page,
+     * so drawing objects of different sheets does not switch textures; sheets that are not in the atlas get a region
+     * covering their own texture.
+     *
+     * @param name The name of the sheet in the atlas, or its file path (e.g. "objects" or "objects.png").
+     * @return The region of the whole sheet.
+     */
+    public TextureRegion getRegion(String name) {
+        TextureRegion region = regions.get(name);
+        if (region == null) {
+            String regionName = name.endsWith(".png") ? name.substring(0, name.length() - 4) : name;
+            TextureAtlas atlas = getAtlas();
+            if (atlas != null) {
+                region = atlas.findRegion(regionName);
+            }
+            if (region == null) {
+                //not packed, use the texture of the file itself
+                region = new TextureRegion(getTexture(name.endsWith(".png") ? name : name + ".png"));
+            }
+            regions.put(name, region);
+        }
+        return region;
+    }
+
+    /**
+     * Loads the sprite atlas the first time it is needed.
+     *
+     * @return The atlas, or {@code null} if there is no atlas file.
+     */
+    private TextureAtlas getAtlas() {
+        if (!atlasLoaded) {
+            FileHandle atlasFile = Gdx.files.internal(ATLAS_PATH);
+            atlas = atlasFile.exists() ? new TextureAtlas(atlasFile) : null;
+            atlasLoaded = true;
+        }
+        return atlas;
+    }
+
+    /**
+     * Retrieves all frames of a sprite sheet. The sheet is split only the first time it is requested with this grid
+     * size. The returned array and its regions are shared and must not be modified.
+     *
+     * @param path The file path (or atlas name) of the sprite sheet.
+     * @param cols The number of columns in the sprite sheet.
+     * @param rows The number of rows in the sprite sheet.
+     * @return The frames of the sheet, indexed by row and column.
+     */
+    public TextureRegion[][] getFrames(String path, int cols, int rows) {
+        String key = path + "#" + cols + "x" + rows;
+        TextureRegion[][] sheet = frames.get(key);
+        if (sheet == null) {
+            //split the sheet once and keep all frames for future use
+            TextureRegion region = getRegion(path);
+            sheet = region.split(region.getRegionWidth() / cols, region.getRegionHeight() / rows);
+            frames.put(key, sheet);
+        }
+        return sheet;
+    }
+
+    /**
+     * Retrieves a single frame of a sprite sheet. The sheet is split into its frames only the first time
+     * it is requested with this grid size, afterwards every caller gets the same shared {@link TextureRegion},
+     * so all tiles of one type use one region instead of splitting the sheet per tile.
+     * The returned region is shared and must not be modified.
+     *
+     * @param path The file path (or atlas name) of the sprite sheet.
+     * @param cols The number of columns in the sprite sheet.
+     * @param rows The number of rows in the sprite sheet.
+     * @param row  The row of the frame.
+     * @param col  The column of the frame.
+     * @return The shared texture region of the frame.
+     */
+    public TextureRegion getFrame(String path, int cols, int rows, int row, int col) {
+        return getFrames(path, cols, rows)[row][col];
+    }
+
+    /**
+     * Loads the given sprite sheets (from the atlas, or as their own textures) if they are not loaded yet.
+     * Textures can only be created on the render thread, so code running on a background thread has to preload
+     * everything it needs through this method (via {@code Gdx.app.postRunnable}) before it calls {@link #getRegion(String)}.
+     *
+     * @param paths The file paths of the sprite sheets to load.
+     */
+    public void preload(String... paths) {
+        for (String path : paths) {
+            getRegion(path);
+        }
+    }
+
     /**
      * Disposes of all loaded textures. This should be called when the game is closing
      * to free up resources.
@@ -37,6 +141,13 @@ public void dispose() {
             texture.dispose();
         }
         textures.clear();
+        if (atlas != null) {
+            atlas.dispose();
+            atlas = null;
+        }
+        atlasLoaded = false;
+        regions.clear();
+        frames.clear();
     }
 
 }
@@ -0,0 +1,119 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * Bit-packed collision masks of a map. For every flag (blocked, hazard, pickup, key, exit) one bit per tile is stored
+ * row-major in a {@code long[]}, so a collision query is a few shifts and masks on a handful of words instead of
+ * a look at a game object. {@link #query(int, int)} combines the bits of one tile into a single flag word.
+ * The masks are built from the tile grid when the map is created and must be updated with {@link #update(int, int, byte)}
+ * whenever a tile changes.
+ */
+public class TileFlags {
+    // Flags of a tile, combined in the word returned by query()
+    public static final int BLOCKED = 1; // not walkable (walls and the entry)
+    public static final int HAZARD = 1 << 1; // traps
+    public static final int PICKUP = 1 << 2; // keys and extra lives
+    public static final int KEY = 1 << 3;
+    public static final int EXIT = 1 << 4;
+    private static final int FLAG_COUNT = 5;
+
+    // flag word per tile type, indexed by the tile type
+    private static final int[] FLAGS_BY_TYPE = new int[MapData.EXTRA_LIFE + 1];
+
+    static {
+        FLAGS_BY_TYPE[MapData.WALL] = BLOCKED;
+        FLAGS_BY_TYPE[MapData.ENTRY] = BLOCKED;
+        FLAGS_BY_TYPE[MapData.EXIT] = EXIT;
+        FLAGS_BY_TYPE[MapData.TRAP] = HAZARD;
+        FLAGS_BY_TYPE[MapData.KEY] = PICKUP | KEY;
+        FLAGS_BY_TYPE[MapData.EXTRA_LIFE] = PICKUP;
+    }
+
+    private final int width;
+    private final int height;
+    private final long[][] masks = new long[FLAG_COUNT][]; // one bitset per flag
+
+    /**
+     * Builds the masks from the given row-major tile types.
+     *
+     * @param tiles  The tile types, {@code width * height} entries.
+     * @param width  The width of the map in tiles.
+     * @param height The height of the map in tiles.
+     */
+    public TileFlags(byte[] tiles, int width, int height) {
+        this.width = width;
+        this.height = height;
+        int words = (int) (((long) width * height + 63) >>> 6);
+        for (int flag = 0; flag < FLAG_COUNT; flag++) {
+            masks[flag] = new long[words];
+        }
+        for (int i = 0; i < tiles.length; i++) {
+            int flags = forType(tiles[i]);
+            if (flags != 0) {
+                set(i, flags);
+            }
+        }
+    }
+
+    /**
+     * Returns the flag word of a tile type without looking at any mask, e.g. for maps that are paged in regions.
+     *
+     * @param tileType The tile type, see {@link MapData}.
+     * @return The combined flags of the tile type, 0 for empty tiles and unknown types.
+     */
+    public static int forType(byte tileType) {
+        if (tileType < 0 || tileType >= FLAGS_BY_TYPE.length) {
+            return 0;
+        }
+        return FLAGS_BY_TYPE[tileType];
+    }
+
+    /**
+     * Returns the flags of the tile at the given coordinates.
+     *
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     * @return The combined flags of the tile, 0 if the tile is empty or outside of the map.
+     */
+    public int query(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return 0;
+        }
+        int index = y * width + x;
+        int word = index >>> 6;
+        // shifting a long uses only the lowest 6 bits of the index, so no masking is needed
+        return (int) ((masks[0][word] >>> index) & 1)
+                | (int) ((masks[1][word] >>> index) & 1) << 1
+                | (int) ((masks[2][word] >>> index) & 1) << 2
+                | (int) ((masks[3][word] >>> index) & 1) << 3
+                | (int) ((masks[4][word] >>> index) & 1) << 4;
+    }
+
+    /**
+     * Updates the masks after the tile at the given coordinates changed.
+     *
+     * @param x        The x-coordinate of the tile.
+     * @param y        The y-coordinate of the tile.
+     * @param tileType The new tile type.
+     */
+    public void update(int x, int y, byte tileType) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return;
+        }
+        int index = y * width + x;
+        for (int flag = 0; flag < FLAG_COUNT; flag++) {
+            masks[flag][index >>> 6] &= ~(1L << index);
+        }
+        set(index, forType(tileType));
+    }
+
+    /**
+     * Sets the bits of the given flags for one tile.
+     */
+    private void set(int index, int flags) {
+        for (int flag = 0; flag < FLAG_COUNT; flag++) {
+            if ((flags & (1 << flag)) != 0) {
+                masks[flag][index >>> 6] |= 1L << index;
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * The authoritative, mutable tile storage of a {@link MazeWorld}: one tile type byte per cell, using the tile types of
+ * {@link MapData}. Only the tile types are stored here; the positions of keys, extra lives and the other special
+ * tiles are indexed by the {@link SpecialTileIndex} of the world.
+ */
+public interface TileGrid {
+
+    /**
+     * Returns the width of the grid in tiles.
+     *
+     * @return The width of the grid.
+     */
+    int getWidth();
+
+    /**
+     * Returns the height of the grid in tiles.
+     *
+     * @return The height of the grid.
+     */
+    int getHeight();
+
+    /**
+     * Returns the tile type at the given tile coordinates.
+     *
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     * @return The tile type, or {@link MapData#EMPTY} if the tile is empty or outside of the grid.
+     */
+    byte get(int x, int y);
+
+    /**
+     * Changes the tile type at the given tile coordinates. Coordinates outside of the grid are ignored.
+     *
+     * @param x        The x-coordinate of the tile.
+     * @param y        The y-coordinate of the tile.
+     * @param tileType The new tile type.
+     */
+    void set(int x, int y, byte tileType);
+
+    /**
+     * Hints that the given tile rectangle is about to be used, so a grid that keeps only parts of the map
+     * in memory can load them. Grids that hold the whole map ignore it.
+     *
+     * @param minX The smallest tile x-coordinate of the area.
+     * @param minY The smallest tile y-coordinate of the area.
+     * @param maxX The largest tile x-coordinate of the area.
+     * @param maxY The largest tile y-coordinate of the area.
+     */
+    default void touch(int minX, int minY, int maxX, int maxY) {
+    }
+
+    /**
+     * Checks whether the given tile coordinates lie inside the grid.
+     *
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     * @return {@code true} if the tile is inside the grid.
+     */
+    default boolean isInside(int x, int y) {
+        return x >= 0 && y >= 0 && x < getWidth() && y < getHeight();
+    }
+}
@@ -0,0 +1,42 @@
+package de.tum.cit.ase.maze;
+
+/**
+ * Provides the tile types of a maze on demand. The {@link RegionPagedWorld} only asks its source for the tiles of
+ * the regions it pages in, so a source does not have to keep the whole maze in memory (it could, for example,
+ * generate the tiles of a region procedurally).
+ */
+public interface TileSource {
+
+    /**
+     * Returns the width of the maze in tiles.
+     *
+     * @return The width of the maze.
+     */
+    int getWidth();
+
+    /**
+     * Returns the height of the maze in tiles.
+     *
+     * @return The height of the maze.
+     */
+    int getHeight();
+
+    /**
+     * Returns the tile type at the given tile coordinates.
+     *
+     * @param x The x-coordinate of the tile.
+     * @param y The y-coordinate of the tile.
+     * @return The tile type, or {@link MapData#EMPTY} if nothing is placed there.
+     */
+    byte getTile(int x, int y);
+
+    /**
+     * Returns the positions of the tiles of one type, so that a {@link MazeWorld} does not have to scan a large map
+     * for its special tiles and enemy spawns. Walls are not listed.
+     *
+     * @param tileType The tile type, e.g. {@link MapData#ENEMY} for the enemy spawns.
+     * @return The row-major indices of the tiles ({@code (long) y * width + x}), or {@code null} if the source does
+     *         not know them and has to be scanned.
+     */
+    long[] getPositions(byte tileType);
+}
@@ -24,13 +24,9 @@ public class Trap extends GameObject{
      */
     public Trap(float x, float y, String texturePath, TextureManager textureManager) {
         super(x, y, texturePath, textureManager);
-        // Split the sprite sheet into individual frames
-        TextureRegion[][] tmp = TextureRegion.split(texture,
-                texture.getWidth() / FRAME_COLS,
-                texture.getHeight() / FRAME_ROWS);
-
+        // Take the shared frame of the sprite sheet
         // Spring is trap
-        currentFrame = tmp[3][7];
+        currentFrame = textureManager.getFrame(texturePath, FRAME_COLS, FRAME_ROWS, 3, 7);
     }
 
     /**
@@ -56,4 +52,13 @@ public void render(SpriteBatch batch, float x, float y) {
         batch.draw(currentFrame, x, y);
     }
 
+    /**
+     * Returns the frame of the sprite sheet the trap is drawn with.
+     *
+     * @return The texture region of the trap.
+     */
+    @Override
+    public TextureRegion getCurrentFrame() {
+        return currentFrame;
+    }
 }
@@ -24,13 +24,10 @@ public class Wall extends GameObject{
      */
     public Wall(float x, float y, String texturePath, TextureManager textureManager) {
         super(x, y, texturePath, textureManager);
-        // Split the sprite sheet into individual frames
+        // Take the shared frame of the sprite sheet
         //Texture basicSheet = new Texture(Gdx.files.internal(texturePath));
-        TextureRegion[][] tmp = TextureRegion.split(this.texture,
-                texture.getWidth() / FRAME_COLS,
-                texture.getHeight() / FRAME_ROWS);
         // Tree is wall
-        currentFrame = tmp[4][6];
+        currentFrame = textureManager.getFrame(texturePath, FRAME_COLS, FRAME_ROWS, 4, 6);
     }
 
     /**
@@ -56,4 +53,13 @@ public void render(SpriteBatch batch, float x, float y) {
         batch.draw(currentFrame, x, y);
     }
 
+    /**
+     * Returns the frame of the sprite sheet the wall is drawn with.
+     *
+     * @return The texture region of the wall.
+     */
+    @Override
+    public TextureRegion getCurrentFrame() {
+        return currentFrame;
+    }
 }
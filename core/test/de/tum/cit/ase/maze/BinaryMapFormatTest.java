@@ -0,0 +1,103 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.files.FileHandle;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Writes maps in the binary maze format and reads them back, loaded as {@link MapData} and mapped as
+ * {@link MappedTileSource}.
+ */
+class BinaryMapFormatTest {
+    private static final byte[] LISTED_TYPES = {MapData.ENTRY, MapData.EXIT, MapData.TRAP, MapData.ENEMY, MapData.KEY};
+
+    @Test
+    void mappedFileHasTheTilesAndListsTheSpecialTiles() throws IOException {
+        MapData mapData = randomMap(70, 40, new Random(2));
+        File file = tempFile();
+        BinaryMapFormat.write(mapData, file);
+
+        MappedTileSource source = BinaryMapFormat.openTileSource(file);
+        assertEquals(mapData.getWidth(), source.getWidth());
+        assertEquals(mapData.getHeight(), source.getHeight());
+        for (int y = 0; y < mapData.getHeight(); y++) {
+            for (int x = 0; x < mapData.getWidth(); x++) {
+                assertEquals(mapData.getTile(x, y), source.getTile(x, y), "tile " + x + "," + y);
+            }
+        }
+        for (byte tileType : LISTED_TYPES) {
+            assertArrayEquals(mapData.getPositions(tileType), source.getPositions(tileType), "positions of " + tileType);
+        }
+
+        MapData loaded = BinaryMapFormat.read(new FileHandle(file));
+        assertArrayEquals(mapData.getTiles(), loaded.getTiles());
+    }
+
+    @Test
+    void worldOfAMappedFileFindsItsSpecialTiles() throws IOException {
+        MapData mapData = randomMap(50, 50, new Random(4));
+        File file = tempFile();
+        BinaryMapFormat.write(mapData, file);
+
+        MazeWorld expected = new MazeWorld(mapData, new Random(1));
+        MazeWorld world = new MazeWorld(BinaryMapFormat.openTileSource(file), new Random(1));
+        assertEquals(expected.findEntry(), world.findEntry());
+        assertEquals(expected.findKey(), world.findKey());
+        assertEquals(expected.getEnemies().size, world.getEnemies().size);
+        for (byte tileType : new byte[]{MapData.EXIT, MapData.TRAP}) {
+            assertEquals(expected.getSpecialTilePositions(tileType), world.getSpecialTilePositions(tileType));
+        }
+    }
+
+    @Test
+    void versionOneFilesAreReadWithoutAList() throws IOException {
+        byte[] tiles = {MapData.WALL, MapData.ENTRY, 42, MapData.EMPTY, MapData.KEY, MapData.EXIT};
+        ByteBuffer buffer = ByteBuffer.allocate(16 + tiles.length);
+        buffer.putInt(0x4D415A45).putInt(1).putInt(3).putInt(2).put(tiles);
+        File file = tempFile();
+        Files.write(file.toPath(), buffer.array());
+
+        MappedTileSource source = BinaryMapFormat.openTileSource(file);
+        assertNull(source.getPositions(MapData.ENTRY));
+        assertEquals(MapData.EMPTY, source.getTile(2, 0), "unknown tile types are read as empty tiles");
+
+        MapData loaded = BinaryMapFormat.read(new FileHandle(file));
+        assertArrayEquals(new long[]{1}, loaded.getPositions(MapData.ENTRY));
+        assertArrayEquals(new long[]{5}, loaded.getPositions(MapData.EXIT));
+        assertEquals(MapData.EMPTY, loaded.getTile(2, 0));
+
+        // the world scans a layout without a list
+        MazeWorld world = new MazeWorld(source, new Random(1));
+        assertEquals(new MazeWorld(loaded, new Random(1)).findKey(), world.findKey());
+    }
+
+    private static MapData randomMap(int width, int height, Random random) {
+        byte[] tiles = new byte[width * height];
+        Arrays.fill(tiles, MapData.EMPTY);
+        for (int i = 0; i < tiles.length; i++) {
+            int roll = random.nextInt(100);
+            if (roll < 30) {
+                tiles[i] = MapData.WALL;
+            } else if (roll < 33) {
+                tiles[i] = LISTED_TYPES[random.nextInt(LISTED_TYPES.length)];
+            }
+        }
+        return new MapData(width, height, tiles);
+    }
+
+    private static File tempFile() throws IOException {
+        File file = Files.createTempFile("maze", BinaryMapFormat.EXTENSION).toFile();
+        file.deleteOnExit();
+        return file;
+    }
+}
@@ -0,0 +1,75 @@
+package de.tum.cit.ase.maze;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks {@link IndexedMinHeap} against the lowest key found by a linear scan over all ids.
+ */
+class IndexedMinHeapTest {
+    private static final int IDS = 200;
+
+    @Test
+    void popsIdsInTheOrderOfTheirKeys() {
+        Random random = new Random(11);
+        IndexedMinHeap heap = new IndexedMinHeap();
+        for (int round = 0; round < 50; round++) {
+            // the generations of the earlier rounds must not leak into this one
+            heap.clear(IDS);
+            long[] keys = new long[IDS];
+            boolean[] inHeap = new boolean[IDS];
+            boolean[] popped = new boolean[IDS];
+            for (int step = 0; step < 2000; step++) {
+                int id = random.nextInt(IDS);
+                long key = IndexedMinHeap.key(random.nextInt(100), random.nextInt(100));
+                int operation = random.nextInt(3);
+                if (operation == 0 && !inHeap[id] && !popped[id]) {
+                    heap.add(id, key);
+                    keys[id] = key;
+                    inHeap[id] = true;
+                } else if (operation == 1 && inHeap[id]) {
+                    heap.decreaseKey(id, key); // ignored if the key is not lower
+                    keys[id] = Math.min(keys[id], key);
+                } else if (operation == 2 && !heap.isEmpty()) {
+                    int top = heap.pop();
+                    assertTrue(inHeap[top], "popped an id that is not in the heap");
+                    assertEquals(lowestKey(keys, inHeap), keys[top], "popped id " + top);
+                    inHeap[top] = false;
+                    popped[top] = true;
+                }
+                for (int i = 0; i < IDS; i++) {
+                    assertEquals(inHeap[i], heap.contains(i), "membership of id " + i);
+                }
+            }
+            while (!heap.isEmpty()) {
+                int top = heap.pop();
+                assertEquals(lowestKey(keys, inHeap), keys[top], "popped id " + top);
+                inHeap[top] = false;
+            }
+            for (int i = 0; i < IDS; i++) {
+                assertFalse(inHeap[i], "id " + i + " was never popped");
+            }
+        }
+    }
+
+    @Test
+    void keysAreOrderedByThePrimaryCostFirst() {
+        assertTrue(IndexedMinHeap.key(1, 1000) < IndexedMinHeap.key(2, 0));
+        assertTrue(IndexedMinHeap.key(3, 4) < IndexedMinHeap.key(3, 5));
+    }
+
+    private static long lowestKey(long[] keys, boolean[] inHeap) {
+        long lowest = Long.MAX_VALUE;
+        for (int i = 0; i < keys.length; i++) {
+            if (inHeap[i]) {
+                lowest = Math.min(lowest, keys[i]);
+            }
+        }
+        return lowest;
+    }
+}
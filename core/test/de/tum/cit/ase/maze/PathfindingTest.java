@@ -0,0 +1,167 @@
+package de.tum.cit.ase.maze;
+
+import com.badlogic.gdx.utils.LongArray;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Checks every {@link Pathfinder} against a breadth-first search on random maps: A* and Jump Point Search have to
+ * find a path exactly when the BFS does, of the same length, and the hierarchical search has to agree on the
+ * reachability and never be shorter. All paths have to be connected steps over walkable tiles.
+ */
+class PathfindingTest {
+    private static final double[] WALL_DENSITIES = {0.0, 0.1, 0.25, 0.4};
+
+    @Test
+    void searchesMatchBreadthFirstSearch() {
+        Random random = new Random(5);
+        for (double density : WALL_DENSITIES) {
+            MazeWorld world = randomWorld(60, 50, density, random);
+            checkQueries(world, 500, random);
+        }
+    }
+
+    @Test
+    void searchesMatchBreadthFirstSearchAfterWallsAreRemoved() {
+        Random random = new Random(7);
+        MazeWorld world = randomWorld(64, 64, 0.35, random);
+        checkQueries(world, 200, random); // builds the jump table and the cluster graph
+        for (int round = 0; round < 5; round++) {
+            // walls that become walkable drop the jump table and patch the cluster graph
+            for (int i = 0; i < 40; i++) {
+                int x = 1 + random.nextInt(world.getWidth() - 1);
+                int y = 1 + random.nextInt(world.getHeight() - 1);
+                if (world.getTileType(x, y) == MapData.WALL) {
+                    world.removeTileAt(x, y);
+                }
+            }
+            checkQueries(world, 200, random);
+        }
+    }
+
+    @Test
+    void largeMapSearchesGrowTheirWindow() {
+        // more tiles than the first search window, with a wall across the map that has a single gap at the far end,
+        // so tiles close to each other on both sides of the wall are connected only far outside the first window
+        int width = 1100, height = 1000;
+        assertTrue((long) width * height > GridSearch.FIRST_WINDOW_TILES);
+        byte[] tiles = new byte[width * height];
+        Arrays.fill(tiles, MapData.EMPTY);
+        for (int x = 0; x < width; x++) {
+            tiles[500 * width + x] = MapData.WALL;
+        }
+        tiles[500 * width + width - 2] = MapData.EMPTY;
+        Random random = new Random(3);
+        for (int i = 0; i < tiles.length / 4; i++) {
+            int position = random.nextInt(tiles.length);
+            if (position / width != 500) {
+                tiles[position] = MapData.WALL;
+            }
+        }
+        MazeWorld world = new MazeWorld(new MapData(width, height, tiles), new Random(1));
+
+        LongArray path = new LongArray();
+        int[][] queries = {{10, 450, 20, 550}, {5, 5, 1090, 990}, {300, 499, 300, 501}, {1000, 100, 20, 900}};
+        for (int[] query : queries) {
+            int[] distances = breadthFirstSearch(world, query[0], query[1]);
+            int expected = distances[query[3] * width + query[2]];
+            for (Pathfinder pathfinder : new Pathfinder[]{Pathfinder.A_STAR, Pathfinder.JUMP_POINT_SEARCH}) {
+                boolean found = pathfinder.findPath(world, query[0], query[1], query[2], query[3], path);
+                assertEquals(expected >= 0, found, pathfinder + " reachability of " + Arrays.toString(query));
+                if (found) {
+                    assertEquals(expected, path.size - 1, pathfinder + " length of " + Arrays.toString(query));
+                    checkSteps(world, query, path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs random queries with every pathfinder and compares them with a BFS from the start.
+     */
+    private static void checkQueries(MazeWorld world, int queries, Random random) {
+        int width = world.getWidth(), height = world.getHeight();
+        LongArray path = new LongArray();
+        for (int i = 0; i < queries; i++) {
+            int[] query = {random.nextInt(width), random.nextInt(height), random.nextInt(width), random.nextInt(height)};
+            int[] distances = breadthFirstSearch(world, query[0], query[1]);
+            int expected = world.isCellfree(query[2], query[3]) || (query[0] == query[2] && query[1] == query[3])
+                    ? distances[query[3] * width + query[2]] : -1;
+            for (Pathfinder pathfinder : Pathfinder.values()) {
+                world.setPathfinder(pathfinder);
+                boolean found = world.findPath(query[0], query[1], query[2], query[3], path);
+                String name = pathfinder + " " + Arrays.toString(query);
+                assertEquals(expected >= 0, found, name + " reachability");
+                if (!found) {
+                    continue;
+                }
+                if (pathfinder == Pathfinder.HIERARCHICAL) {
+                    // the paths over the cluster graph are not always the shortest ones
+                    assertTrue(path.size - 1 >= expected, name + " shorter than the shortest path");
+                } else {
+                    assertEquals(expected, path.size - 1, name + " length");
+                }
+                checkSteps(world, query, path);
+            }
+        }
+    }
+
+    /**
+     * Checks that a path leads from the start to the end in single steps over walkable tiles.
+     */
+    private static void checkSteps(MazeWorld world, int[] query, LongArray path) {
+        long width = world.getWidth();
+        assertEquals(query[1] * width + query[0], path.first(), "start of the path");
+        assertEquals(query[3] * width + query[2], path.peek(), "end of the path");
+        for (int i = 1; i < path.size; i++) {
+            long from = path.get(i - 1), to = path.get(i);
+            long step = Math.abs(from % width - to % width) + Math.abs(from / width - to / width);
+            if (step != 1 || !world.isCellfree((int) (to % width), (int) (to / width))) {
+                fail("invalid step " + i + " of the path " + Arrays.toString(query));
+            }
+        }
+    }
+
+    /**
+     * Calculates the number of steps from a tile to every tile, -1 for tiles that cannot be reached.
+     */
+    private static int[] breadthFirstSearch(MazeWorld world, int startX, int startY) {
+        int width = world.getWidth(), height = world.getHeight();
+        int[] distances = new int[width * height];
+        Arrays.fill(distances, -1);
+        int[] queue = new int[width * height];
+        int head = 0, tail = 0;
+        distances[startY * width + startX] = 0;
+        queue[tail++] = startY * width + startX;
+        while (head < tail) {
+            int current = queue[head++];
+            int x = current % width, y = current / width;
+            int[][] neighbors = {{x - 1, y}, {x + 1, y}, {x, y - 1}, {x, y + 1}};
+            for (int[] neighbor : neighbors) {
+                if (world.isCellfree(neighbor[0], neighbor[1])) {
+                    int index = neighbor[1] * width + neighbor[0];
+                    if (distances[index] < 0) {
+                        distances[index] = distances[current] + 1;
+                        queue[tail++] = index;
+                    }
+                }
+            }
+        }
+        return distances;
+    }
+
+    private static MazeWorld randomWorld(int width, int height, double wallDensity, Random random) {
+        byte[] tiles = new byte[width * height];
+        for (int i = 0; i < tiles.length; i++) {
+            tiles[i] = random.nextDouble() < wallDensity ? MapData.WALL : MapData.EMPTY;
+        }
+        tiles[width + 1] = MapData.ENTRY;
+        return new MazeWorld(new MapData(width, height, tiles), new Random(1));
+    }
+}